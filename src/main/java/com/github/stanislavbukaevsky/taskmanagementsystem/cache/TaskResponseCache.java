@@ -0,0 +1,66 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.cache;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.configuration.CacheConfiguration.TASKS_CACHE;
+
+/**
+ * Этот класс для кэширования собранных ответов с полной информацией о задаче по ее идентификатору.
+ * Удаление из кэша внутри транзакции откладывается до ее фиксации, чтобы другой поток
+ * не успел положить в кэш данные, которые еще не изменены в базе данных.
+ * Закэшированные ответы общие для всех потоков, поэтому изменять их нельзя
+ */
+@Component
+public class TaskResponseCache {
+    private final Cache cache;
+
+    public TaskResponseCache(CacheManager cacheManager) {
+        this.cache = new TransactionAwareCacheDecorator(Objects.requireNonNull(cacheManager.getCache(TASKS_CACHE)));
+    }
+
+    /**
+     * Этот метод возвращает ответ о задаче из кэша, а при его отсутствии собирает ответ и кладет в кэш.
+     * Параллельные запросы одной задачи ждут одной загрузки, а удаление задачи из кэша дожидается
+     * окончания загрузки, поэтому устаревший ответ не останется в кэше
+     *
+     * @param id     уникальный идентификатор задачи
+     * @param loader способ собрать ответ о задаче из базы данных
+     * @return Возвращает ответ с полной информацией о задаче
+     */
+    public TaskFullResponseDto get(Long id, Supplier<TaskFullResponseDto> loader) {
+        try {
+            return cache.get(id, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Этот метод возвращает ответ о задаче из кэша, не загружая его из базы данных
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает ответ с полной информацией о задаче или null, если его нет в кэше
+     */
+    public TaskFullResponseDto getIfPresent(Long id) {
+        return cache.get(id, TaskFullResponseDto.class);
+    }
+
+    /**
+     * Этот метод удаляет ответ о задаче из кэша. Внутри транзакции удаление выполняется после ее фиксации
+     *
+     * @param id уникальный идентификатор задачи
+     */
+    public void evict(Long id) {
+        cache.evict(id);
+    }
+}
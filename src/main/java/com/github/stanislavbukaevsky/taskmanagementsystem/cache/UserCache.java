@@ -0,0 +1,79 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.cache;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.configuration.CacheConfiguration.USERS_CACHE;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.USER_NOT_FOUND_EXCEPTION;
+
+/**
+ * Этот класс для кэширования пользователей по их электронной почте.
+ * В кэше хранятся копии пользователей без связанных коллекций, поэтому их можно использовать вне транзакции.
+ * Размер кэша и время жизни записей ограничены настройкой users.cache.spec. При изменении сущности пользователя
+ * кэш очищает {@link UserCacheEvictionListener}, а после массовых запросов пользователя нужно удалить из кэша явно.
+ * Удаление внутри транзакции откладывается до ее фиксации
+ */
+@Component
+public class UserCache {
+    private final Cache cache;
+    private final UserRepository userRepository;
+
+    public UserCache(CacheManager cacheManager, UserRepository userRepository) {
+        this.cache = new TransactionAwareCacheDecorator(Objects.requireNonNull(cacheManager.getCache(USERS_CACHE)));
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Этот метод возвращает пользователя из кэша, а при его отсутствии загружает пользователя из базы данных
+     *
+     * @param email электронная почта пользователя
+     * @return Возвращает найденного пользователя
+     * @throws UsernameNotFoundException исключение, если пользователя с такой электронной почтой не существует
+     */
+    public User get(String email) {
+        try {
+            return cache.get(email, () -> loadingUser(email));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Этот метод удаляет пользователя из кэша. Внутри транзакции удаление выполняется после ее фиксации
+     *
+     * @param email электронная почта пользователя
+     */
+    public void evict(String email) {
+        cache.evict(email);
+    }
+
+    /**
+     * Этот метод удаляет из кэша всех пользователей. Внутри транзакции очистка выполняется после ее фиксации
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Приватный метод для загрузки пользователя из базы данных при промахе кэша
+     *
+     * @param email электронная почта пользователя
+     * @return Возвращает копию найденного пользователя без связанных коллекций
+     */
+    private User loadingUser(String email) {
+        User user = userRepository.findUserByEmail(email).orElseThrow(() ->
+                new UsernameNotFoundException(USER_NOT_FOUND_EXCEPTION));
+        return new User(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getPassword(), user.getRole(), null, null, null);
+    }
+}
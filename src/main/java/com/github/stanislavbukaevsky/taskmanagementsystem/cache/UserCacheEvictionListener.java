@@ -0,0 +1,44 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.cache;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Этот класс удаляет пользователей из кэша при любом изменении сущности пользователя.
+ * При изменении или удалении пользователя кэш очищается целиком, потому что у пользователя могла измениться
+ * электронная почта, по которой он хранится в кэше. Массовые изменения через запросы в обход сущности
+ * должны удалять пользователя из кэша явно
+ */
+@Component
+public class UserCacheEvictionListener {
+    private final ObjectProvider<UserCache> userCache;
+
+    public UserCacheEvictionListener(ObjectProvider<UserCache> userCache) {
+        this.userCache = userCache;
+    }
+
+    /**
+     * Этот метод удаляет нового пользователя из кэша после его сохранения
+     *
+     * @param user сущность пользователя
+     */
+    @PostPersist
+    public void persisted(User user) {
+        userCache.getObject().evict(user.getEmail());
+    }
+
+    /**
+     * Этот метод очищает кэш пользователей после изменения или удаления пользователя
+     *
+     * @param user сущность пользователя
+     */
+    @PostUpdate
+    @PostRemove
+    public void changed(User user) {
+        userCache.getObject().clear();
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурационный класс для включения кэширования.
+ * Кэши, их размер и время жизни задаются в application.properties (spring.cache.*),
+ * а метрики попаданий, промахов и вытеснений публикуются через /actuator/metrics/cache.*
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+    public static final String TASKS_CACHE = "tasks";
+    public static final String USERS_CACHE = "users";
+
+    /**
+     * Этот метод регистрирует кэш пользователей с собственными размером и временем жизни записей (users.cache.spec).
+     * Пользователи меняются реже задач, но устаревшая запись пользователя опаснее, поэтому время жизни у кэшей разное
+     *
+     * @param spec настройки кэша пользователей в формате спецификации Caffeine
+     * @return Возвращает настройку менеджера кэшей
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> usersCacheCustomizer(@Value("${users.cache.spec}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(USERS_CACHE, Caffeine.from(spec).build());
+    }
+}
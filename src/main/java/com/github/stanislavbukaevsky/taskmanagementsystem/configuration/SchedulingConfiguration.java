@@ -0,0 +1,13 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Конфигурационный класс для включения фоновых задач по расписанию.
+ * Периодичность и размер пачек каждой фоновой задачи задаются в application.properties
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
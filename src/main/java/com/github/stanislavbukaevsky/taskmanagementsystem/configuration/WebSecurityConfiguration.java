@@ -1,5 +1,6 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.configuration;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import com.github.stanislavbukaevsky.taskmanagementsystem.token.TokenFilterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -29,19 +30,35 @@ public class WebSecurityConfiguration {
             "/webjars/**",
             "/inputs/registration",
             "/inputs/authentication",
-            "/tokens/access-new"
+            "/tokens/access-new",
+            "/actuator/health"
     };
     private static final String[] AUTHENTICATED_USER = {
             "/tasks/add-task",
+            "/tasks/add-tasks",
+            "/tasks/*",
             "/tasks/update-task/**",
             "/tasks/get-task/**",
             "/tasks/delete-task/**",
+            "/tasks/delete-tasks",
             "/tasks/update-status/**",
             "/tasks/update-priority/**",
             "/tasks/assign-performer/**",
+            "/tasks/update-statuses",
+            "/tasks/update-priorities",
+            "/tasks/assign-performers",
             "/tasks/author-task/**",
             "/tasks/executor-task/**",
-            "/comments/add-comment/**"
+            "/tasks/filter",
+            "/tasks/search",
+            "/archive/get-task/**",
+            "/archive/author-task/**",
+            "/dashboard/**",
+            "/comments/add-comment/**",
+            "/comments/task/**"
+    };
+    private static final String[] ADMIN_ACCESS = {
+            "/actuator/metrics/**"
     };
 
     /**
@@ -60,6 +77,7 @@ public class WebSecurityConfiguration {
                 .authorizeHttpRequests(auth -> {
                     auth.requestMatchers(FREE_ACCESS).permitAll();
                     auth.requestMatchers(AUTHENTICATED_USER).authenticated();
+                    auth.requestMatchers(ADMIN_ACCESS).hasAuthority(Role.ADMIN.name());
                 })
                 .addFilterAfter(tokenFilterService, UsernamePasswordAuthenticationFilter.class);
 
@@ -17,4 +17,7 @@ public class ExceptionTextMessageConstant {
     public static final String TASK_NOT_FOUND_EXCEPTION_2 = "Задач этого автора не существует! Попробуйте ввести другой идентификатор";
     public static final String RESPONSE_STATUS_EXCEPTION = "Пользователя и задачи с таким логином не существует, либо вы не можете совершить действие!";
     public static final String USER_BY_ID_NOT_FOUND_EXCEPTION = "Пользователя с таким идентификатором не существует! Попробуйте другой идентификатор";
+    public static final String TASK_CONFLICT_EXCEPTION = "Задачу уже изменили в другом запросе! Получите актуальную версию задачи и повторите попытку";
+    public static final String PASSWORD_HASHING_UNAVAILABLE_EXCEPTION = "Сервис регистрации и аутентификации перегружен! Повторите попытку позже";
+    public static final String INVALID_CURSOR_EXCEPTION = "Курсор страницы сформирован неправильно! Используйте курсор, полученный в предыдущем ответе";
 }
@@ -7,43 +7,89 @@ public class LoggerTextMessageConstant {
     // Логи для методов в контроллере
     public static final String REGISTRATION_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для регистрации нового пользователя в контроллере. Электронная почта пользователя: {}";
     public static final String AUTHENTICATION_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для аутентификации зарегистрированного пользователя в контроллере. Электронная почта зарегистрированного пользователя: {}";
-    public static final String REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для генерации нового access-токена для зарегистрированных пользователей в контроллере. Refresh-токен пользователя: {}";
+    public static final String REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для генерации нового access-токена для зарегистрированных пользователей в контроллере. Электронная почта пользователя: {}";
     public static final String ADD_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для добавления новой задачи в контроллере. Запрос от пользователя: {}";
+    public static final String DELETE_TASKS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для массового удаления задач в контроллере. Количество задач в запросе: {}";
+    public static final String UPDATE_STATUS_TASKS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для массового изменения статуса задач в контроллере. Количество задач в запросе: {}";
+    public static final String UPDATE_PRIORITY_TASKS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для массового изменения приоритета задач в контроллере. Количество задач в запросе: {}";
+    public static final String ASSIGN_PERFORMER_TASKS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для массового назначения исполнителя задач в контроллере. Количество задач в запросе: {}. Электронная почта исполнителя: {}";
+    public static final String ADD_TASKS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для массового добавления задач в контроллере. Количество задач в запросе: {}";
     public static final String UPDATE_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для изменения информации о задачи в контроллере. Запрос от пользователя: {}. Уникальный идентификатор задачи: {}";
+    public static final String PATCH_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для частичного изменения задачи в контроллере. Запрос от пользователя: {}. Уникальный идентификатор задачи: {}";
     public static final String GET_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для получения информации о задачи в контроллере. Уникальный идентификатор задачи: {}";
     public static final String DELETE_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для удаления задачи в контроллере";
     public static final String UPDATE_STATUS_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для изменения статуса задачи в контроллере. Уникальный идентификатор задачи: {}";
     public static final String UPDATE_PRIORITY_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для изменения приоритета задачи в контроллере. Уникальный идентификатор задачи: {}";
     public static final String ASSIGN_PERFORMER_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для назначения исполнителя задачи в контроллере. Уникальный идентификатор задачи: {}. Электронная почта исполнителя: {}";
     public static final String ADD_COMMENT_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для добавления комментария к задаче в контроллере. Запрос от пользователя: {}. Уникальный идентификатор задачи: {}";
+    public static final String GET_TASK_COMMENTS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для постраничного получения комментариев к задаче в контроллере. Уникальный идентификатор задачи: {}. Курсор: {}. Количество комментариев на странице: {}";
     public static final String GET_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска задач конкретного автора в контроллере. Уникальный идентификатор автора: {}. Номер страницы: {}. Количество задач на странице: {}";
     public static final String GET_EXECUTOR_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска задач конкретного исполнителя в контроллере. Уникальный идентификатор исполнителя: {}. Номер страницы: {}. Количество задач на странице: {}";
+    public static final String GET_AUTHOR_TASK_BY_CURSOR_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска задач конкретного автора по курсору в контроллере. Уникальный идентификатор автора: {}. Курсор: {}. Количество задач на странице: {}";
+    public static final String GET_ARCHIVE_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для получения информации об архивной задаче в контроллере. Уникальный идентификатор задачи: {}";
+    public static final String GET_ARCHIVE_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска архивных задач конкретного автора в контроллере. Уникальный идентификатор автора: {}. Номер страницы: {}. Количество задач на странице: {}";
+    public static final String GET_EXECUTOR_TASK_BY_CURSOR_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска задач конкретного исполнителя по курсору в контроллере. Уникальный идентификатор исполнителя: {}. Курсор: {}. Количество задач на странице: {}";
+    public static final String GET_EXECUTORS_DASHBOARD_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для получения сводки задач всех исполнителей в контроллере";
+    public static final String GET_EXECUTOR_DASHBOARD_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для получения сводки задач конкретного исполнителя в контроллере. Уникальный идентификатор исполнителя: {}";
+    public static final String FILTER_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для фильтрации задач в контроллере. Условия фильтрации: {}. Сортировка: {}. Номер страницы: {}. Количество задач на странице: {}";
+    public static final String SEARCH_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для полнотекстового поиска задач в контроллере. Поисковый запрос: {}. Курсор: {}. Количество задач на странице: {}";
+    public static final String EXPORT_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для выгрузки всех задач конкретного автора в контроллере. Уникальный идентификатор автора: {}";
+    public static final String EXPORT_EXECUTOR_TASK_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для выгрузки всех задач конкретного исполнителя в контроллере. Уникальный идентификатор исполнителя: {}";
 
     // Логи для методов в сервисах
     public static final String FIND_USER_BY_EMAIL_MESSAGE_LOGGER_SERVICE = "Вызван метод поиска пользователя по его электронной почте в сервисе. Электронная почта пользователя: {}";
-    public static final String REGISTRATION_MESSAGE_LOGGER_SERVICE = "Вызван метод для регистрации нового пользователя в сервисе. Зарегистрированный пользователь: {}";
+    public static final String REGISTRATION_MESSAGE_LOGGER_SERVICE = "Вызван метод для регистрации нового пользователя в сервисе. Электронная почта пользователя: {}";
     public static final String ADD_TOKEN_MESSAGE_LOGGER_SERVICE = "Вызван метод для добавления в базу данных нового refresh-токена в сервисе";
     public static final String GET_GENERATING_AUTHENTICATION_RESPONSE_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для генерации ответа с личной информацией о пользователе в сервисе";
     public static final String AUTHENTICATION_MESSAGE_LOGGER_SERVICE = "Вызван метод для аутентификации зарегистрированного пользователя в сервисе. Электронная почта пользователя: {}";
+    public static final String UPGRADE_PASSWORD_MESSAGE_LOGGER_SERVICE = "Вызван метод для перешифрования пароля пользователя в сервисе. Электронная почта пользователя: {}";
+    public static final String UPGRADE_PASSWORD_POSTPONED_MESSAGE_LOGGER_SERVICE = "Перешифрование пароля пользователя отложено, очередь шифрования паролей переполнена. Электронная почта пользователя: {}";
     public static final String AUTHENTICATION_MESSAGE_ERROR_LOGGER_SERVICE = "Введен неправильный логин или пароль! Проверьте правильность введенных данных.";
-    public static final String FIND_REFRESH_TOKEN_BY_EMAIL_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска refresh-токена по имени пользователя в сервисе. Электронная почта пользователя: {}";
-    public static final String REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_SERVICE = "Вызван метод для генерации нового access-токена для зарегистрированных пользователей в сервисе. Refresh-токен пользователя: {}";
+    public static final String FIND_REFRESH_TOKEN_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска владельца refresh-токена по хешу токена в сервисе";
+    public static final String REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_SERVICE = "Вызван метод для генерации нового access-токена для зарегистрированных пользователей в сервисе. Идентификатор пользователя: {}. Электронная почта пользователя: {}";
     public static final String ADD_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для добавления новой задачи в сервисе. Запрос от пользователя: {}";
+    public static final String CREATE_PARTITIONS_MESSAGE_LOGGER_SERVICE = "Вызван метод для создания секций таблиц в сервисе. Создано секций задач: {}. Создано секций комментариев: {}";
+    public static final String DEFAULT_PARTITIONS_NOT_EMPTY_MESSAGE_LOGGER_SERVICE = "В секциях по умолчанию есть строки, месячные секции для них не были созданы. Строк задач: {}. Строк комментариев: {}. Перенесите строки в месячные секции";
+    public static final String PURGE_DELETED_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для физического удаления задач в сервисе. Удалено задач: {}. Удалено комментариев: {}. Затрачено мс: {}";
+    public static final String DELETE_EXPIRED_TOKENS_MESSAGE_LOGGER_SERVICE = "Вызван метод для удаления refresh-токенов с истекшим сроком действия в сервисе. Удалено токенов: {}. Затрачено мс: {}";
+    public static final String ARCHIVE_COMPLETED_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для архивации завершенных задач в сервисе. Перенесено в архив задач: {}. Задачи завершены до: {}. Затрачено мс: {}";
+    public static final String DELETE_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для массового удаления задач в сервисе. Удалено задач: {} из {}";
+    public static final String UPDATE_STATUS_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для массового изменения статуса задач в сервисе. Изменено задач: {} из {}";
+    public static final String UPDATE_PRIORITY_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для массового изменения приоритета задач в сервисе. Изменено задач: {} из {}";
+    public static final String ASSIGN_PERFORMER_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для массового назначения исполнителя задач в сервисе. Изменено задач: {} из {}. Электронная почта исполнителя: {}";
+    public static final String ADD_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван метод для массового добавления задач в сервисе. Добавлено задач: {}. Пропущено задач с ошибками: {}";
     public static final String UPDATE_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для изменения информации о задачи в сервисе. Запрос от пользователя: {}. Уникальный идентификатор задачи: {}";
     public static final String GENERATING_TASK_RESPONSE_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для генерации полной информации о задаче в сервисе";
     public static final String FIND_TASK_BY_ID_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для поиска задачи по идентификатору в сервисе. Уникальный идентификатор задачи: {}";
+    public static final String PATCH_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для частичного изменения задачи в сервисе. Запрос от пользователя: {}. Уникальный идентификатор задачи: {}";
     public static final String GET_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для получения информации о задачи в сервисе. Уникальный идентификатор задачи: {}";
+    public static final String GET_TASK_VERSION_MESSAGE_LOGGER_SERVICE = "Вызван метод для получения версии задачи в сервисе. Уникальный идентификатор задачи: {}";
     public static final String DELETE_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для удаления задачи в сервисе";
     public static final String UPDATE_STATUS_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для изменения статуса задачи в сервисе. Уникальный идентификатор задачи: {}";
     public static final String UPDATE_PRIORITY_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для изменения приоритета задачи в сервисе. Уникальный идентификатор задачи: {}";
     public static final String ASSIGN_PERFORMER_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для назначения исполнителя задачи в сервисе. Уникальный идентификатор задачи: {}. Электронная почта исполнителя: {}";
     public static final String ADD_COMMENT_MESSAGE_LOGGER_SERVICE = "Вызван метод для добавления комментария к задаче в сервисе. Запрос от пользователя: {}. Уникальный идентификатор задачи: {}";
+    public static final String GET_TASK_COMMENTS_MESSAGE_LOGGER_SERVICE = "Вызван метод для постраничного получения комментариев к задаче в сервисе. Уникальный идентификатор задачи: {}. Курсор: {}. Количество комментариев на странице: {}";
     public static final String GET_AUTHOR_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска задач конкретного автора в сервисе. Уникальный идентификатор автора: {}. Номер страницы: {}. Количество задач на странице: {}";
     public static final String GET_EXECUTOR_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска задач конкретного исполнителя в сервисе. Уникальный идентификатор исполнителя: {}. Номер страницы: {}. Количество задач на странице: {}";
+    public static final String GET_AUTHOR_TASK_BY_CURSOR_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска задач конкретного автора по курсору в сервисе. Уникальный идентификатор автора: {}. Курсор: {}. Количество задач на странице: {}";
+    public static final String GET_ARCHIVE_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для получения информации об архивной задаче в сервисе. Уникальный идентификатор задачи: {}";
+    public static final String GET_ARCHIVE_AUTHOR_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска архивных задач конкретного автора в сервисе. Уникальный идентификатор автора: {}. Номер страницы: {}. Количество задач на странице: {}";
+    public static final String GET_EXECUTOR_TASK_BY_CURSOR_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска задач конкретного исполнителя по курсору в сервисе. Уникальный идентификатор исполнителя: {}. Курсор: {}. Количество задач на странице: {}";
+    public static final String GENERATING_TASK_PAGE_RESPONSE_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для генерации страницы задач по курсору в сервисе";
+    public static final String GET_EXECUTORS_DASHBOARD_MESSAGE_LOGGER_SERVICE = "Вызван метод для получения сводки задач всех исполнителей в сервисе";
+    public static final String GET_EXECUTOR_DASHBOARD_MESSAGE_LOGGER_SERVICE = "Вызван метод для получения сводки задач конкретного исполнителя в сервисе. Уникальный идентификатор исполнителя: {}";
+    public static final String FILTER_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для фильтрации задач в сервисе. Условия фильтрации: {}. Сортировка: {}. Номер страницы: {}. Количество задач на странице: {}";
+    public static final String SEARCH_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для полнотекстового поиска задач в сервисе. Поисковый запрос: {}. Курсор: {}. Количество задач на странице: {}";
+    public static final String EXPORT_AUTHOR_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для выгрузки всех задач конкретного автора в сервисе. Уникальный идентификатор автора: {}";
+    public static final String EXPORT_EXECUTOR_TASK_MESSAGE_LOGGER_SERVICE = "Вызван метод для выгрузки всех задач конкретного исполнителя в сервисе. Уникальный идентификатор исполнителя: {}";
+    public static final String WRITING_TASKS_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для записи задач в выходной поток в сервисе";
     public static final String GENERATING_LIST_TASK_FULL_RESPONSE_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для генерации списка полной информации о задачах в сервисе";
 
     // Логи для пакета security
+    public static final String LOAD_USER_BY_CLAIMS_MESSAGE_LOGGER_SECURITY = "Вызван метод для построения пользователя по данным access токена и помещен в security context. Электронная почта пользователя: {}";
     public static final String LOAD_USER_BY_USERNAME_MESSAGE_LOGGER_SECURITY = "Вызван метод для поиска пользователя по его уникальной электронной почте и помещен в security context. Электронная почта пользователя: {}";
-    public static final String PASSWORD_ENCODER_ENCODE_MESSAGE_LOGGER_SERVICE = "Вызван метод шифрования пароля пользователя. Пароль пользователя: {}";
-    public static final String PASSWORD_ENCODER_MATCHES_MESSAGE_LOGGER_SERVICE = "Вызван метод проверки пароля пользователя. Полученный пароль от пользователя: {}. Зашифрованный пароль, сохраненный в базе данных: {}";
+    public static final String PASSWORD_ENCODER_ENCODE_MESSAGE_LOGGER_SERVICE = "Вызван метод шифрования пароля пользователя";
+    public static final String PASSWORD_ENCODER_CALIBRATION_MESSAGE_LOGGER_SERVICE = "Подобрано количество итераций шифрования паролей: {}. Целевое время шифрования, мс: {}";
+    public static final String PASSWORD_ENCODER_MATCHES_MESSAGE_LOGGER_SERVICE = "Вызван метод проверки пароля пользователя";
 }
@@ -0,0 +1,94 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.controller;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.ArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GET_ARCHIVE_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GET_ARCHIVE_TASK_MESSAGE_LOGGER_CONTROLLER;
+
+/**
+ * Класс-контроллер для чтения архива завершенных задач.
+ * Архив доступен только для чтения
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/archive")
+@RequiredArgsConstructor
+@Tag(name = "Работа с архивом задач", description = "Позволяет просматривать архивные задачи пользователя")
+public class ArchiveController {
+    private final ArchiveService archiveService;
+
+    /**
+     * Этот метод позволяет получить информацию об архивной задаче
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает найденную архивную задачу с полной информацией
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Архивная задача успешна получена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = TaskFullResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для получения информации об архивной задаче",
+            description = "Позволяет получить информацию об архивной задаче для ее автора")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/get-task/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskFullResponseDto> getTask(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id) {
+        TaskFullResponseDto response = archiveService.getTask(id);
+        log.info(GET_ARCHIVE_TASK_MESSAGE_LOGGER_CONTROLLER, id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет получить список архивных задач конкретного автора
+     *
+     * @param id   уникальный идентификатор автора задачи
+     * @param page номер страницы
+     * @param size количество задач на странице
+     * @return Возвращает список найденных архивных задач конкретного автора
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Список архивных задач успешно получен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = TaskFullResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для получения списка архивных задач конкретного автора",
+            description = "Позволяет получить список архивных задач конкретного автора для зарегистрированных пользователей на платформе")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/author-task/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskFullResponseDto>> getAuthorTask(@Parameter(description = "Уникальный идентификатор автора задачи") @PathVariable @Positive Long id,
+                                                                   @Parameter(description = "Номер страницы") @RequestParam(required = false, defaultValue = "1") @Positive int page,
+                                                                   @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size) {
+        List<TaskFullResponseDto> response = archiveService.getAuthorTasks(id, page, size);
+        log.info(GET_ARCHIVE_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER, id, page, size);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -21,11 +21,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.AUTHENTICATION_MESSAGE_LOGGER_CONTROLLER;
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.REGISTRATION_MESSAGE_LOGGER_CONTROLLER;
 
 /**
- * Класс-контроллер для работы с регистрацией и аутентификацией пользователей на платформе
+ * Класс-контроллер для работы с регистрацией и аутентификацией пользователей на платформе.
+ * Ответы возвращаются асинхронно, чтобы поток обработки запроса не ждал шифрования пароля
  */
 @Slf4j
 @RestController
@@ -46,15 +49,17 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Новый пользователь зарегистрирован (OK)",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RegistrationResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "503", description = "Сервис перегружен (Service Unavailable)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод регистрации пользователей на платформе",
             description = "Позволяет зарегистрироваться новому пользователю на платформе")
     @PostMapping(value = "/registration", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<RegistrationResponseDto> registration(@Valid @RequestBody RegistrationRequestDto request) {
-        RegistrationResponseDto response = authService.registration(request);
-        log.info(REGISTRATION_MESSAGE_LOGGER_CONTROLLER, request.getEmail());
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<RegistrationResponseDto>> registration(@Valid @RequestBody RegistrationRequestDto request) {
+        return authService.registration(request).thenApply(response -> {
+            log.info(REGISTRATION_MESSAGE_LOGGER_CONTROLLER, request.getEmail());
+            return ResponseEntity.ok(response);
+        });
     }
 
     /**
@@ -69,14 +74,16 @@ public class AuthController {
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "503", description = "Сервис перегружен (Service Unavailable)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод аутентификации пользователей на платформе",
             description = "Позволяет аутентифицироваться зарегистрированному пользователю на платформе")
     @PostMapping(value = "/authentication", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<AuthenticationResponseDto> authentication(@Valid @RequestBody AuthenticationRequestDto request) {
-        AuthenticationResponseDto response = authService.authentication(request);
-        log.info(AUTHENTICATION_MESSAGE_LOGGER_CONTROLLER, request.getEmail());
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<AuthenticationResponseDto>> authentication(@Valid @RequestBody AuthenticationRequestDto request) {
+        return authService.authentication(request).thenApply(response -> {
+            log.info(AUTHENTICATION_MESSAGE_LOGGER_CONTROLLER, request.getEmail());
+            return ResponseEntity.ok(response);
+        });
     }
 }
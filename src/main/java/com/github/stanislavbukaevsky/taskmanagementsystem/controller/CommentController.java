@@ -1,5 +1,6 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.controller;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentPageResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.CommentService;
@@ -21,6 +22,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.ADD_COMMENT_MESSAGE_LOGGER_CONTROLLER;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GET_TASK_COMMENTS_MESSAGE_LOGGER_CONTROLLER;
 
 /**
  * Класс-контроллер для работы с методами комментариев к задачам
@@ -60,4 +62,33 @@ public class CommentController {
         log.info(ADD_COMMENT_MESSAGE_LOGGER_CONTROLLER, request, idTask);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Этот метод позволяет постранично получить комментарии к задаче по курсору
+     *
+     * @param idTask уникальный идентификатор задачи
+     * @param after  курсор следующей страницы, полученный с предыдущей страницей
+     * @param size   количество комментариев на странице
+     * @return Возвращает страницу комментариев к задаче с курсором следующей страницы
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница комментариев успешно получена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CommentPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для постраничного получения комментариев к задаче",
+            description = "Позволяет получить комментарии к задаче от новых к старым. Для следующей страницы нужно передать курсор из предыдущего ответа")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/task/{idTask}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CommentPageResponseDto> getTaskComments(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long idTask,
+                                                                  @Parameter(description = "Курсор следующей страницы") @RequestParam(required = false) String after,
+                                                                  @Parameter(description = "Количество комментариев на странице") @RequestParam(required = false, defaultValue = "10") @Positive int size) {
+        CommentPageResponseDto response = commentService.getTaskComments(idTask, after, size);
+        log.info(GET_TASK_COMMENTS_MESSAGE_LOGGER_CONTROLLER, idTask, after, size);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,86 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.controller;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.ExecutorDashboardResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.ExecutorDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GET_EXECUTORS_DASHBOARD_MESSAGE_LOGGER_CONTROLLER;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GET_EXECUTOR_DASHBOARD_MESSAGE_LOGGER_CONTROLLER;
+
+/**
+ * Класс-контроллер для работы со сводкой задач исполнителей
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Работа со сводкой задач исполнителей", description = "Позволяет получить количество задач исполнителей по статусам и приоритетам")
+public class DashboardController {
+    private final ExecutorDashboardService executorDashboardService;
+
+    /**
+     * Этот метод позволяет получить сводку задач всех исполнителей
+     *
+     * @return Возвращает список сводок по исполнителям, у которых есть задачи
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Сводка задач успешно получена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ExecutorDashboardResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для получения сводки задач всех исполнителей",
+            description = "Позволяет получить количество задач каждого исполнителя по статусам и приоритетам")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/executors", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ExecutorDashboardResponseDto>> getExecutorsDashboard() {
+        List<ExecutorDashboardResponseDto> responses = executorDashboardService.getExecutorsDashboard();
+        log.info(GET_EXECUTORS_DASHBOARD_MESSAGE_LOGGER_CONTROLLER);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Этот метод позволяет получить сводку задач конкретного исполнителя
+     *
+     * @param id уникальный идентификатор исполнителя
+     * @return Возвращает сводку задач исполнителя
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Сводка задач успешно получена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ExecutorDashboardResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для получения сводки задач конкретного исполнителя",
+            description = "Позволяет получить количество задач исполнителя по статусам и приоритетам")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/executors/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExecutorDashboardResponseDto> getExecutorDashboard(@Parameter(description = "Уникальный идентификатор исполнителя") @PathVariable @Positive Long id) {
+        ExecutorDashboardResponseDto response = executorDashboardService.getExecutorDashboard(id);
+        log.info(GET_EXECUTOR_DASHBOARD_MESSAGE_LOGGER_CONTROLLER, id);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,11 +1,20 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.controller;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkCreateResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkDeleteResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkUpdateResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFilterRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskPageResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskPatchRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.TaskSort;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.TaskService;
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.EntityTagGenerator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +24,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -37,7 +51,10 @@ import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.Logger
 @RequiredArgsConstructor
 @Tag(name = "Работа с задачами пользователя", description = "Позволяет управлять методами по работе с задачами пользователя")
 public class TaskController {
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
     private final TaskService taskService;
+    private final EntityTagGenerator entityTagGenerator;
 
     /**
      * Этот метод позволяет добавить новую задачу на платформу
@@ -69,10 +86,41 @@ public class TaskController {
     }
 
     /**
-     * Этот метод позволяет изменить информацию о задачи на платформе
+     * Этот метод позволяет добавить на платформу сразу много новых задач.
+     * Задачи, не прошедшие валидацию, не добавляются, а остальные добавляются в одной транзакции
+     *
+     * @param requests список запросов от пользователя
+     * @param status   статус задач
+     * @param priority приоритет задач
+     * @return Возвращает идентификаторы добавленных задач и ошибки валидации пропущенных задач
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Задачи успешно созданы (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkCreateResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для массового создания новых задач",
+            description = "Позволяет создать до 10000 задач одним запросом для зарегистрированных пользователей на платформе")
+    @SecurityRequirement(name = "JWT")
+    @PostMapping(value = "/add-tasks", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBulkCreateResponseDto> addTasks(@RequestBody List<TaskRequestDto> requests,
+                                                              @Parameter(description = "Статус задач") @RequestParam Status status,
+                                                              @Parameter(description = "Приоритет задач") @RequestParam Priority priority) {
+        TaskBulkCreateResponseDto response = taskService.addTasks(requests, status, priority);
+        log.info(ADD_TASKS_MESSAGE_LOGGER_CONTROLLER, requests.size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет изменить информацию о задачи на платформе.
+     * Если передана версия задачи и задачу уже изменили в другом запросе, возвращается ответ 409
      *
      * @param request запрос от пользователя
      * @param id      уникальный идентификатор задачи
+     * @param version версия задачи из предыдущего ответа
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @ApiResponses(value = {
@@ -82,6 +130,7 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
             @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "409", description = "Задачу уже изменили в другом запросе (Conflict)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод для изменения информации о задачи",
@@ -89,22 +138,58 @@ public class TaskController {
     @SecurityRequirement(name = "JWT")
     @PutMapping(value = "/update-task/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<TaskResponseDto> updateTask(@Valid @RequestBody TaskRequestDto request,
-                                                      @Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id) {
-        TaskResponseDto response = taskService.updateTask(request, id);
+                                                      @Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id,
+                                                      @Parameter(description = "Версия задачи из предыдущего ответа") @RequestParam(required = false) @PositiveOrZero Long version) {
+        TaskResponseDto response = taskService.updateTask(request, id, version);
         log.info(UPDATE_TASK_MESSAGE_LOGGER_CONTROLLER, request, id);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Этот метод позволяет получить информацию о задачи на платформе
+     * Этот метод позволяет частично изменить задачу на платформе в формате JSON Merge Patch.
+     * Изменяются только переданные поля, а значение null в поле исполнителя снимает исполнителя с задачи
      *
-     * @param id уникальный идентификатор задачи
+     * @param request запрос от пользователя, содержащий только изменяемые поля
+     * @param id      уникальный идентификатор задачи
+     * @param version версия задачи из предыдущего ответа
+     * @return Возвращает измененную задачу с полной информацией о ней
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Задача успешна изменена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Задача или исполнитель не найдены (Not Found)"),
+            @ApiResponse(responseCode = "409", description = "Задачу уже изменили в другом запросе (Conflict)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для частичного изменения задачи",
+            description = "Позволяет одним запросом изменить заголовок, описание, приоритет и исполнителя задачи для автора задачи")
+    @SecurityRequirement(name = "JWT")
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskResponseDto> patchTask(@Valid @RequestBody TaskPatchRequestDto request,
+                                                     @Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id,
+                                                     @Parameter(description = "Версия задачи из предыдущего ответа") @RequestParam(required = false) @PositiveOrZero Long version) {
+        TaskResponseDto response = taskService.patchTask(request, id, version);
+        log.info(PATCH_TASK_MESSAGE_LOGGER_CONTROLLER, request, id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет получить информацию о задачи на платформе.
+     * Если задача не изменилась с версии из заголовка If-None-Match, возвращается ответ 304 без тела
+     *
+     * @param id         уникальный идентификатор задачи
+     * @param webRequest текущий запрос с условными заголовками
      * @return Возвращает найденную задачу с полной информацией
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Задача успешна получена (OK)",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
                     @Schema(implementation = TaskFullResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Данные не изменились с прошлого запроса (Not Modified)"),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -115,10 +200,20 @@ public class TaskController {
             description = "Позволяет получить информацию о задачи для зарегистрированных пользователей на платформе")
     @SecurityRequirement(name = "JWT")
     @GetMapping(value = "/get-task/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<TaskFullResponseDto> getTask(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id) {
-        TaskFullResponseDto response = taskService.getTask(id);
+    public ResponseEntity<TaskFullResponseDto> getTask(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id,
+                                                       @Parameter(hidden = true) WebRequest webRequest) {
+        TaskVersionProjection version = taskService.getTaskVersion(id);
         log.info(GET_TASK_MESSAGE_LOGGER_CONTROLLER, id);
-        return ResponseEntity.ok(response);
+        if (webRequest.checkNotModified(entityTagGenerator.generate(version.id(), version.version()),
+                entityTagGenerator.lastModified(version.updatedAt()))) {
+            return null;
+        }
+
+        TaskFullResponseDto response = taskService.getTask(id);
+        return ResponseEntity.ok()
+                .eTag(entityTagGenerator.generate(response.getId(), response.getVersion()))
+                .lastModified(entityTagGenerator.lastModified(response.getUpdatedAt()))
+                .body(response);
     }
 
     /**
@@ -144,10 +239,37 @@ public class TaskController {
     }
 
     /**
-     * Этот метод позволяет изменить статус задачи на платформе
+     * Этот метод позволяет удалить сразу многие задачи с платформы вместе с комментариями к ним.
+     * Удаляются только задачи, автор которых - текущий пользователь, остальные возвращаются как неудаленные
      *
-     * @param id     уникальный идентификатор задачи
-     * @param status статус задачи
+     * @param ids уникальные идентификаторы задач
+     * @return Возвращает идентификаторы удаленных и неудаленных задач
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Задачи успешно удалены (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkDeleteResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для массового удаления задач с платформы",
+            description = "Позволяет удалить до 10000 задач одним запросом для авторов задач")
+    @SecurityRequirement(name = "JWT")
+    @DeleteMapping(value = "/delete-tasks", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBulkDeleteResponseDto> deleteTasks(@RequestBody List<Long> ids) {
+        TaskBulkDeleteResponseDto response = taskService.deleteTasks(ids);
+        log.info(DELETE_TASKS_MESSAGE_LOGGER_CONTROLLER, ids.size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет изменить статус задачи на платформе.
+     * Если передана версия задачи и задачу уже изменили в другом запросе, возвращается ответ 409
+     *
+     * @param id      уникальный идентификатор задачи
+     * @param status  статус задачи
+     * @param version версия задачи из предыдущего ответа
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @ApiResponses(value = {
@@ -157,6 +279,7 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
             @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "409", description = "Задачу уже изменили в другом запросе (Conflict)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод для изменения статуса задачи",
@@ -164,17 +287,20 @@ public class TaskController {
     @SecurityRequirement(name = "JWT")
     @PostMapping(value = "/update-status/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<TaskResponseDto> updateStatusTask(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id,
-                                                            @Parameter(description = "Статус задачи") @RequestParam Status status) {
-        TaskResponseDto response = taskService.updateStatusTask(id, status);
+                                                            @Parameter(description = "Статус задачи") @RequestParam Status status,
+                                                            @Parameter(description = "Версия задачи из предыдущего ответа") @RequestParam(required = false) @PositiveOrZero Long version) {
+        TaskResponseDto response = taskService.updateStatusTask(id, status, version);
         log.info(UPDATE_STATUS_TASK_MESSAGE_LOGGER_CONTROLLER, id);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Этот метод позволяет изменить приоритет задачи на платформе
+     * Этот метод позволяет изменить приоритет задачи на платформе.
+     * Если передана версия задачи и задачу уже изменили в другом запросе, возвращается ответ 409
      *
      * @param id       уникальный идентификатор задачи
      * @param priority приоритет задачи
+     * @param version  версия задачи из предыдущего ответа
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @ApiResponses(value = {
@@ -184,6 +310,7 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
             @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "409", description = "Задачу уже изменили в другом запросе (Conflict)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод для изменения приоритета задачи",
@@ -191,17 +318,20 @@ public class TaskController {
     @SecurityRequirement(name = "JWT")
     @PostMapping(value = "/update-priority/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<TaskResponseDto> updatePriorityTask(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long id,
-                                                              @Parameter(description = "Приоритет задачи") @RequestParam Priority priority) {
-        TaskResponseDto response = taskService.updatePriorityTask(id, priority);
+                                                              @Parameter(description = "Приоритет задачи") @RequestParam Priority priority,
+                                                              @Parameter(description = "Версия задачи из предыдущего ответа") @RequestParam(required = false) @PositiveOrZero Long version) {
+        TaskResponseDto response = taskService.updatePriorityTask(id, priority, version);
         log.info(UPDATE_PRIORITY_TASK_MESSAGE_LOGGER_CONTROLLER, id);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Этот метод позволяет назначить исполнителя задачи на платформе
+     * Этот метод позволяет назначить исполнителя задачи на платформе.
+     * Если передана версия задачи и задачу уже изменили в другом запросе, возвращается ответ 409
      *
-     * @param idTask уникальный идентификатор задачи
-     * @param email  электронная почта исполнителя
+     * @param idTask  уникальный идентификатор задачи
+     * @param email   электронная почта исполнителя
+     * @param version версия задачи из предыдущего ответа
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @ApiResponses(value = {
@@ -211,6 +341,7 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
             @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "409", description = "Задачу уже изменили в другом запросе (Conflict)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод для назначения исполнителя задачи",
@@ -218,24 +349,110 @@ public class TaskController {
     @SecurityRequirement(name = "JWT")
     @PostMapping(value = "/assign-performer/{idTask}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<TaskResponseDto> assignPerformerTask(@Parameter(description = "Уникальный идентификатор задачи") @PathVariable @Positive Long idTask,
-                                                               @Parameter(description = "Электронная почта исполнителя") @RequestParam String email) {
-        TaskResponseDto response = taskService.assignPerformerTask(idTask, email);
+                                                               @Parameter(description = "Электронная почта исполнителя") @RequestParam String email,
+                                                               @Parameter(description = "Версия задачи из предыдущего ответа") @RequestParam(required = false) @PositiveOrZero Long version) {
+        TaskResponseDto response = taskService.assignPerformerTask(idTask, email, version);
         log.info(ASSIGN_PERFORMER_TASK_MESSAGE_LOGGER_CONTROLLER, idTask, email);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Этот метод позволяет получить список задач конкретного автора
+     * Этот метод позволяет изменить статус сразу многих задач на платформе.
+     * Изменяются только задачи, исполнитель которых - текущий пользователь, остальные возвращаются как неизмененные
+     *
+     * @param ids    уникальные идентификаторы задач
+     * @param status новый статус задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Статус задач успешно изменен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkUpdateResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для массового изменения статуса задач",
+            description = "Позволяет изменить статус до 10000 задач одним запросом для исполнителей задач")
+    @SecurityRequirement(name = "JWT")
+    @PostMapping(value = "/update-statuses", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBulkUpdateResponseDto> updateStatusTasks(@RequestBody List<Long> ids,
+                                                                       @Parameter(description = "Статус задач") @RequestParam Status status) {
+        TaskBulkUpdateResponseDto response = taskService.updateStatusTasks(ids, status);
+        log.info(UPDATE_STATUS_TASKS_MESSAGE_LOGGER_CONTROLLER, ids.size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет изменить приоритет сразу многих задач на платформе.
+     * Изменяются только задачи, автор которых - текущий пользователь, остальные возвращаются как неизмененные
+     *
+     * @param ids      уникальные идентификаторы задач
+     * @param priority новый приоритет задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Приоритет задач успешно изменен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkUpdateResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для массового изменения приоритета задач",
+            description = "Позволяет изменить приоритет до 10000 задач одним запросом для авторов задач")
+    @SecurityRequirement(name = "JWT")
+    @PostMapping(value = "/update-priorities", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBulkUpdateResponseDto> updatePriorityTasks(@RequestBody List<Long> ids,
+                                                                         @Parameter(description = "Приоритет задач") @RequestParam Priority priority) {
+        TaskBulkUpdateResponseDto response = taskService.updatePriorityTasks(ids, priority);
+        log.info(UPDATE_PRIORITY_TASKS_MESSAGE_LOGGER_CONTROLLER, ids.size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет назначить исполнителя сразу многим задачам на платформе.
+     * Изменяются только задачи, автор которых - текущий пользователь, остальные возвращаются как неизмененные
+     *
+     * @param ids   уникальные идентификаторы задач
+     * @param email электронная почта исполнителя
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Исполнитель задач успешно назначен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkUpdateResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для массового назначения исполнителя задач",
+            description = "Позволяет назначить исполнителя до 10000 задач одним запросом для авторов задач")
+    @SecurityRequirement(name = "JWT")
+    @PostMapping(value = "/assign-performers", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBulkUpdateResponseDto> assignPerformerTasks(@RequestBody List<Long> ids,
+                                                                          @Parameter(description = "Электронная почта исполнителя") @RequestParam String email) {
+        TaskBulkUpdateResponseDto response = taskService.assignPerformerTasks(ids, email);
+        log.info(ASSIGN_PERFORMER_TASKS_MESSAGE_LOGGER_CONTROLLER, ids.size(), email);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет получить список задач конкретного автора.
+     * Если задачи на странице не изменились с версии из заголовка If-None-Match, возвращается ответ 304 без тела
      *
-     * @param id   уникальный идентификатор автора задачи
-     * @param page номер страницы
-     * @param size количество задач на странице
+     * @param id         уникальный идентификатор автора задачи
+     * @param page       номер страницы
+     * @param size       количество задач на странице
+     * @param webRequest текущий запрос с условными заголовками
      * @return Возвращает список найденных задач конкретного автора
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список задач успешно получен (OK)",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
                     @Schema(implementation = TaskFullResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Данные не изменились с прошлого запроса (Not Modified)"),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -248,24 +465,35 @@ public class TaskController {
     @GetMapping(value = "/author-task/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<List<TaskFullResponseDto>> getAuthorTask(@Parameter(description = "Уникальный идентификатор автора задачи") @PathVariable @Positive Long id,
                                                                    @Parameter(description = "Номер страницы") @RequestParam(required = false, defaultValue = "0") @Positive int page,
-                                                                   @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size) {
-        List<TaskFullResponseDto> responses = taskService.getAuthorTask(id, page, size);
+                                                                   @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size,
+                                                                   @Parameter(hidden = true) WebRequest webRequest) {
+        List<TaskVersionProjection> versions = taskService.getAuthorTaskVersions(id, page, size);
         log.info(GET_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER, id, page, size);
-        return ResponseEntity.ok(responses);
+        String eTag = entityTagGenerator.generate(versions);
+        long lastModified = entityTagGenerator.lastModified(versions);
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        List<TaskFullResponseDto> responses = taskService.getTasks(versions);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(responses);
     }
 
     /**
-     * Этот метод позволяет получить список задач конкретного исполнителя
+     * Этот метод позволяет получить список задач конкретного исполнителя.
+     * Если задачи на странице не изменились с версии из заголовка If-None-Match, возвращается ответ 304 без тела
      *
-     * @param id   уникальный идентификатор исполнителя задачи
-     * @param page номер страницы
-     * @param size количество задач на странице
+     * @param id         уникальный идентификатор исполнителя задачи
+     * @param page       номер страницы
+     * @param size       количество задач на странице
+     * @param webRequest текущий запрос с условными заголовками
      * @return Возвращает список найденных задач конкретного исполнителя
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список задач успешно получен (OK)",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
                     @Schema(implementation = TaskFullResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Данные не изменились с прошлого запроса (Not Modified)"),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -278,9 +506,215 @@ public class TaskController {
     @GetMapping(value = "/executor-task/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<List<TaskFullResponseDto>> getExecutorTask(@Parameter(description = "Уникальный идентификатор исполнителя задачи") @PathVariable @Positive Long id,
                                                                      @Parameter(description = "Номер страницы") @RequestParam(required = false, defaultValue = "0") @Positive int page,
-                                                                     @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size) {
-        List<TaskFullResponseDto> responses = taskService.getExecutorTask(id, page, size);
+                                                                     @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size,
+                                                                     @Parameter(hidden = true) WebRequest webRequest) {
+        List<TaskVersionProjection> versions = taskService.getExecutorTaskVersions(id, page, size);
         log.info(GET_EXECUTOR_TASK_MESSAGE_LOGGER_CONTROLLER, id, page, size);
+        String eTag = entityTagGenerator.generate(versions);
+        long lastModified = entityTagGenerator.lastModified(versions);
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        List<TaskFullResponseDto> responses = taskService.getTasks(versions);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(responses);
+    }
+
+    /**
+     * Этот метод позволяет получить список задач конкретного автора с пагинацией по курсору.
+     * Если задачи на странице не изменились с версии из заголовка If-None-Match, возвращается ответ 304 без тела
+     *
+     * @param id         уникальный идентификатор автора задачи
+     * @param after      курсор следующей страницы, полученный в предыдущем ответе
+     * @param size       количество задач на странице
+     * @param webRequest текущий запрос с условными заголовками
+     * @return Возвращает страницу найденных задач конкретного автора с курсором следующей страницы
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница задач успешно получена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = TaskPageResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Данные не изменились с прошлого запроса (Not Modified)"),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для получения списка задач конкретного автора по курсору",
+            description = "Позволяет получить список задач конкретного автора постранично по курсору для зарегистрированных пользователей на платформе")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/author-task/{id}/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPageResponseDto> getAuthorTaskByCursor(@Parameter(description = "Уникальный идентификатор автора задачи") @PathVariable @Positive Long id,
+                                                                     @Parameter(description = "Курсор следующей страницы") @RequestParam(required = false) String after,
+                                                                     @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size,
+                                                                     @Parameter(hidden = true) WebRequest webRequest) {
+        List<TaskVersionProjection> versions = taskService.getAuthorTaskVersionsByCursor(id, after, size);
+        log.info(GET_AUTHOR_TASK_BY_CURSOR_MESSAGE_LOGGER_CONTROLLER, id, after, size);
+        String eTag = entityTagGenerator.generate(versions);
+        long lastModified = entityTagGenerator.lastModified(versions);
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        TaskPageResponseDto response = taskService.getTaskPage(versions, size);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(response);
+    }
+
+    /**
+     * Этот метод позволяет получить список задач конкретного исполнителя с пагинацией по курсору.
+     * Если задачи на странице не изменились с версии из заголовка If-None-Match, возвращается ответ 304 без тела
+     *
+     * @param id         уникальный идентификатор исполнителя задачи
+     * @param after      курсор следующей страницы, полученный в предыдущем ответе
+     * @param size       количество задач на странице
+     * @param webRequest текущий запрос с условными заголовками
+     * @return Возвращает страницу найденных задач конкретного исполнителя с курсором следующей страницы
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница задач успешно получена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = TaskPageResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Данные не изменились с прошлого запроса (Not Modified)"),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для получения списка задач конкретного исполнителя по курсору",
+            description = "Позволяет получить список задач конкретного исполнителя постранично по курсору для зарегистрированных пользователей на платформе")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/executor-task/{id}/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPageResponseDto> getExecutorTaskByCursor(@Parameter(description = "Уникальный идентификатор исполнителя задачи") @PathVariable @Positive Long id,
+                                                                       @Parameter(description = "Курсор следующей страницы") @RequestParam(required = false) String after,
+                                                                       @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size,
+                                                                       @Parameter(hidden = true) WebRequest webRequest) {
+        List<TaskVersionProjection> versions = taskService.getExecutorTaskVersionsByCursor(id, after, size);
+        log.info(GET_EXECUTOR_TASK_BY_CURSOR_MESSAGE_LOGGER_CONTROLLER, id, after, size);
+        String eTag = entityTagGenerator.generate(versions);
+        long lastModified = entityTagGenerator.lastModified(versions);
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        TaskPageResponseDto response = taskService.getTaskPage(versions, size);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(response);
+    }
+
+    /**
+     * Этот метод позволяет получить список задач, отфильтрованных по статусу, приоритету, периоду создания, автору и исполнителю
+     *
+     * @param filter условия фильтрации задач
+     * @param sort   порядок сортировки задач
+     * @param page   номер страницы
+     * @param size   количество задач на странице
+     * @return Возвращает список найденных задач
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Список задач успешно получен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = TaskFullResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для фильтрации задач",
+            description = "Позволяет получить список задач по любому набору условий: статус, приоритет, период создания, автор и исполнитель")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskFullResponseDto>> filterTask(@ParameterObject @Valid TaskFilterRequestDto filter,
+                                                                @Parameter(description = "Порядок сортировки задач") @RequestParam(required = false, defaultValue = "NEWEST") TaskSort sort,
+                                                                @Parameter(description = "Номер страницы") @RequestParam(required = false, defaultValue = "1") @Positive int page,
+                                                                @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size) {
+        List<TaskFullResponseDto> responses = taskService.filterTask(filter, sort, page, size);
+        log.info(FILTER_TASK_MESSAGE_LOGGER_CONTROLLER, filter, sort, page, size);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * Этот метод позволяет найти задачи по словам из заголовка и описания
+     *
+     * @param query поисковый запрос
+     * @param after курсор следующей страницы, полученный в предыдущем ответе
+     * @param size  количество задач на странице
+     * @return Возвращает страницу найденных задач, отсортированных по релевантности, с курсором следующей страницы
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поиск задач успешно выполнен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = TaskPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для полнотекстового поиска задач",
+            description = "Позволяет найти задачи по заголовку и описанию. Поддерживает фразы в кавычках, \"or\" и исключение слов через \"-\"")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPageResponseDto> searchTask(@Parameter(description = "Поисковый запрос") @RequestParam @NotBlank String query,
+                                                          @Parameter(description = "Курсор следующей страницы") @RequestParam(required = false) String after,
+                                                          @Parameter(description = "Количество задач на странице") @RequestParam(required = false, defaultValue = "5") @Positive int size) {
+        TaskPageResponseDto response = taskService.searchTask(query, after, size);
+        log.info(SEARCH_TASK_MESSAGE_LOGGER_CONTROLLER, query, after, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Этот метод позволяет выгрузить все задачи конкретного автора одним ответом в формате NDJSON
+     *
+     * @param id уникальный идентификатор автора задачи
+     * @return Возвращает поток задач конкретного автора, по одной задаче в строке
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Выгрузка задач успешно начата (OK)",
+                    content = @Content(mediaType = NDJSON_VALUE, schema =
+                    @Schema(implementation = TaskResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для выгрузки всех задач конкретного автора",
+            description = "Позволяет выгрузить все задачи конкретного автора одним запросом для синхронизации. Задачи отсортированы по идентификатору, каждая строка ответа - отдельный JSON-объект")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/author-task/{id}/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAuthorTask(@Parameter(description = "Уникальный идентификатор автора задачи") @PathVariable @Positive Long id) {
+        StreamingResponseBody response = taskService.exportAuthorTask(id);
+        log.info(EXPORT_AUTHOR_TASK_MESSAGE_LOGGER_CONTROLLER, id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(response);
+    }
+
+    /**
+     * Этот метод позволяет выгрузить все задачи конкретного исполнителя одним ответом в формате NDJSON
+     *
+     * @param id уникальный идентификатор исполнителя задачи
+     * @return Возвращает поток задач конкретного исполнителя, по одной задаче в строке
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Выгрузка задач успешно начата (OK)",
+                    content = @Content(mediaType = NDJSON_VALUE, schema =
+                    @Schema(implementation = TaskResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для выгрузки всех задач конкретного исполнителя",
+            description = "Позволяет выгрузить все задачи конкретного исполнителя одним запросом для синхронизации. Задачи отсортированы по идентификатору, каждая строка ответа - отдельный JSON-объект")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping(value = "/executor-task/{id}/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportExecutorTask(@Parameter(description = "Уникальный идентификатор исполнителя задачи") @PathVariable @Positive Long id) {
+        StreamingResponseBody response = taskService.exportExecutorTask(id);
+        log.info(EXPORT_EXECUTOR_TASK_MESSAGE_LOGGER_CONTROLLER, id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(response);
+    }
 }
@@ -51,7 +51,7 @@ public class TokenController {
     @PostMapping(value = "/access-new", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<AccessTokenResponseDto> replaceAccessToken(@Valid @RequestBody AccessTokenRequestDto request) {
         AccessTokenResponseDto response = tokenService.replaceAccessToken(request);
-        log.info(REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_CONTROLLER, request.getRefreshToken());
+        log.info(REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_CONTROLLER, response.getEmail());
         return ResponseEntity.ok(response);
     }
 }
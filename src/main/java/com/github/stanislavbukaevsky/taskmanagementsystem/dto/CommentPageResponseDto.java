@@ -0,0 +1,18 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю со страницей комментариев к задаче, полученной по курсору
+ */
+@Data
+@Schema(description = "Объект страницы комментариев к задаче для ответа пользователю")
+public class CommentPageResponseDto {
+    @Schema(description = "Список комментариев на странице")
+    private List<CommentShortResponseDto> comments;
+    @Schema(description = "Курсор для получения следующей страницы. Отсутствует, если страница последняя")
+    private String nextCursor;
+}
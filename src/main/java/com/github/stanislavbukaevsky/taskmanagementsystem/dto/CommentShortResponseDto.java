@@ -0,0 +1,20 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-DTO для ответа пользователю с краткой информацией о комментарии к задаче
+ */
+@Data
+@Schema(description = "Объект комментария в составе задачи для ответа пользователю")
+public class CommentShortResponseDto {
+    @Schema(description = "Уникальный идентификатор комментария")
+    private Long id;
+    @Schema(description = "Текст комментария")
+    private String text;
+    @Schema(description = "Дата и время создания комментария")
+    private LocalDateTime dateTime;
+}
@@ -0,0 +1,28 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Класс-DTO для ответа пользователю со сводкой задач исполнителя по статусам и приоритетам
+ */
+@Data
+@Schema(description = "Объект сводки задач исполнителя для ответа пользователю")
+public class ExecutorDashboardResponseDto {
+    @Schema(description = "Уникальный идентификатор исполнителя")
+    private Long executorId;
+    @Schema(description = "Имя исполнителя")
+    private String firstName;
+    @Schema(description = "Фамилия исполнителя")
+    private String lastName;
+    @Schema(description = "Электронная почта исполнителя")
+    private String email;
+    @Schema(description = "Общее количество задач исполнителя")
+    private Long total;
+    @Schema(description = "Количество задач исполнителя по статусам")
+    private Map<String, Long> statuses;
+    @Schema(description = "Количество задач исполнителя по приоритетам")
+    private Map<String, Long> priorities;
+}
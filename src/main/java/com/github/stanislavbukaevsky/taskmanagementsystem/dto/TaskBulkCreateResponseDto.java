@@ -0,0 +1,18 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю с результатом массового создания задач
+ */
+@Data
+@Schema(description = "Объект результата массового создания задач для ответа пользователю")
+public class TaskBulkCreateResponseDto {
+    @Schema(description = "Уникальные идентификаторы созданных задач в порядке запроса")
+    private List<Long> ids;
+    @Schema(description = "Ошибки валидации задач, которые не были созданы")
+    private List<TaskBulkErrorDto> errors;
+}
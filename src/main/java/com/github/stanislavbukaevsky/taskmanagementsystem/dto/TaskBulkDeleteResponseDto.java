@@ -0,0 +1,22 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю с результатом массового удаления задач
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Объект результата массового удаления задач для ответа пользователю")
+public class TaskBulkDeleteResponseDto {
+    @Schema(description = "Уникальные идентификаторы удаленных задач")
+    private List<Long> deleted;
+    @Schema(description = "Уникальные идентификаторы задач, которые не найдены или недоступны пользователю")
+    private List<Long> notDeleted;
+}
@@ -0,0 +1,23 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.Violation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю с ошибками валидации одной задачи из массового запроса
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Объект ошибок валидации одной задачи из массового запроса")
+public class TaskBulkErrorDto {
+    @Schema(description = "Порядковый номер задачи в запросе, начиная с 0")
+    private Integer index;
+    @Schema(description = "Список ошибок валидации задачи")
+    private List<Violation> violations;
+}
@@ -0,0 +1,22 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю с результатом массового изменения задач
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Объект результата массового изменения задач для ответа пользователю")
+public class TaskBulkUpdateResponseDto {
+    @Schema(description = "Уникальные идентификаторы измененных задач")
+    private List<Long> updated;
+    @Schema(description = "Уникальные идентификаторы задач, которые не найдены, недоступны пользователю или уже имеют новое значение")
+    private List<Long> notUpdated;
+}
@@ -0,0 +1,34 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-DTO с условиями фильтрации задач от пользователя. Все условия необязательные и объединяются через "и"
+ */
+@Data
+@Schema(description = "Объект условий фильтрации задач от пользователя")
+public class TaskFilterRequestDto {
+    @Positive
+    @Schema(description = "Уникальный идентификатор автора задачи")
+    private Long authorId;
+    @Positive
+    @Schema(description = "Уникальный идентификатор исполнителя задачи")
+    private Long executorId;
+    @Schema(description = "Статус задачи")
+    private Status status;
+    @Schema(description = "Приоритет задачи")
+    private Priority priority;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Задача создана не раньше этой даты и времени")
+    private LocalDateTime dateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Задача создана не позже этой даты и времени")
+    private LocalDateTime dateTo;
+}
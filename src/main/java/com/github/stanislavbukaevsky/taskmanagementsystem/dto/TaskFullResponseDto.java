@@ -1,6 +1,5 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
 
-import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -25,6 +24,10 @@ public class TaskFullResponseDto {
     private String status;
     @Schema(description = "Приоритет задачи")
     private String priority;
+    @Schema(description = "Версия задачи, увеличивается при каждом изменении задачи и добавлении комментария")
+    private Long version;
+    @Schema(description = "Дата и время последнего изменения задачи")
+    private LocalDateTime updatedAt;
     @Schema(description = "Имя пользователя")
     private String firstName;
     @Schema(description = "Фамилия пользователя")
@@ -33,6 +36,8 @@ public class TaskFullResponseDto {
     private String email;
     @Schema(description = "Роль пользователя")
     private String role;
-    @Schema(description = "Список комментариев к задаче")
-    private List<Comment> comments;
+    @Schema(description = "Количество комментариев к задаче")
+    private Long commentsCount;
+    @Schema(description = "Последние комментарии к задаче. Все комментарии доступны постранично по адресу /comments/task/{idTask}")
+    private List<CommentShortResponseDto> comments;
 }
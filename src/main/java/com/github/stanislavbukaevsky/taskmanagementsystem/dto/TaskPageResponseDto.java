@@ -0,0 +1,18 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю со страницей задач, полученной по курсору
+ */
+@Data
+@Schema(description = "Объект страницы задач для ответа пользователю")
+public class TaskPageResponseDto {
+    @Schema(description = "Список задач на странице")
+    private List<TaskFullResponseDto> tasks;
+    @Schema(description = "Курсор для получения следующей страницы. Отсутствует, если страница последняя")
+    private String nextCursor;
+}
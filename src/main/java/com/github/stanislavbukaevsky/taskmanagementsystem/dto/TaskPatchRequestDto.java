@@ -0,0 +1,42 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Optional;
+
+/**
+ * Класс-DTO для частичного изменения задачи в формате JSON Merge Patch.
+ * Поля, которых нет в запросе, остаются без изменений
+ */
+@Data
+@Schema(description = "Объект частичного изменения задачи от пользователя. Не переданные поля не изменяются")
+public class TaskPatchRequestDto {
+    @Size(min = 2, max = 128, message = "Заголовок задачи должен содержать от 2 до 128 символов!")
+    @Schema(description = "Заголовок задачи")
+    private String heading;
+    @Size(min = 6, max = 1000, message = "Описание задачи должно содержать от 6 до 1000 символов!")
+    @Schema(description = "Описание задачи")
+    private String description;
+    @Schema(description = "Приоритет задачи")
+    private Priority priority;
+    @Schema(description = "Электронная почта исполнителя задачи. Значение null снимает исполнителя с задачи", type = "string")
+    private Optional<@Email(message = "Электронная почта исполнителя указана неправильно!") String> executor;
+
+    /**
+     * Этот метод проверяет, что в запросе есть хотя бы одно изменяемое поле
+     *
+     * @return Возвращает true, если запрос что-то изменяет
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "Запрос должен содержать хотя бы одно изменяемое поле задачи!")
+    public boolean isChanging() {
+        return heading != null || description != null || priority != null || executor != null;
+    }
+}
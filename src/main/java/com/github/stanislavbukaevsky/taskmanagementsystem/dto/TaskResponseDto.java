@@ -23,6 +23,10 @@ public class TaskResponseDto {
     private String status;
     @Schema(description = "Приоритет задачи")
     private String priority;
+    @Schema(description = "Версия задачи, которую нужно передать при следующем изменении задачи")
+    private Long version;
+    @Schema(description = "Дата и время последнего изменения задачи")
+    private LocalDateTime updatedAt;
     @Schema(description = "Имя пользователя")
     private String firstName;
     @Schema(description = "Фамилия пользователя")
@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 /**
- * Класс-сущность для всех комментариев к задачам
+ * Класс-сущность для всех комментариев к задачам.
+ * Таблица секционирована по месяцам по дате создания, поэтому дата создания не изменяется.
+ * Дата создания задачи входит во внешний ключ на секционированную таблицу задач
  */
 @Entity
 @Data
@@ -21,18 +23,20 @@ public class Comment {
     private Long id;
     @Column(name = "text")
     private String text;
-    @Column(name = "date_and_time")
+    @Column(name = "date_and_time", updatable = false)
     private LocalDateTime dateTime;
+    @Column(name = "task_date_and_time", updatable = false)
+    private LocalDateTime taskDateTime;
     @JsonIgnore
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     private Task task;
     @JsonIgnore
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 }
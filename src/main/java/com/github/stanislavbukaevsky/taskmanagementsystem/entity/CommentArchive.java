@@ -0,0 +1,37 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-сущность для комментариев к архивным задачам.
+ * Комментарии попадают в архив вместе со своей задачей и после этого не изменяются
+ */
+@Entity
+@Immutable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "comments_archive")
+public class CommentArchive {
+    @Id
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "text")
+    private String text;
+    @Column(name = "date_and_time")
+    private LocalDateTime dateTime;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id")
+    private TaskArchive task;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+}
@@ -0,0 +1,23 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Класс-сущность для счетчиков задач исполнителей в разрезе статуса и приоритета.
+ * Счетчики изменяются в той же транзакции, что и сами задачи, поэтому сводка по исполнителям
+ * читается без подсчета задач
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "executor_task_counters")
+public class ExecutorTaskCounter {
+    @EmbeddedId
+    private ExecutorTaskCounterId id;
+    @Column(name = "task_count")
+    private Long taskCount;
+}
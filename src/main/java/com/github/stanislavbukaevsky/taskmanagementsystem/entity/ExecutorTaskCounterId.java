@@ -0,0 +1,31 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.entity;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Класс-ключ счетчика задач исполнителя: исполнитель, статус и приоритет задач
+ */
+@Data
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExecutorTaskCounterId implements Serializable {
+    @Column(name = "executor_id")
+    private Long executorId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private Status status;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority")
+    private Priority priority;
+}
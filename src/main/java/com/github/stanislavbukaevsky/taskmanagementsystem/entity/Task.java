@@ -3,31 +3,39 @@ package com.github.stanislavbukaevsky.taskmanagementsystem.entity;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ResultCheckStyle;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
- * Класс-сущность для всех задач
+ * Класс-сущность для всех задач.
+ * Удаление задачи только помечает ее временем удаления, а помеченные задачи не видны ни в одном запросе к сущности
+ * и физически удаляются в фоне. Таблица секционирована по месяцам по дате создания, поэтому дата создания не изменяется
  */
 @Entity
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "tasks")
+@SQLRestriction("deleted_at IS NULL")
+@SQLDelete(sql = "UPDATE tasks SET deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+        "WHERE id = ? AND version = ?", check = ResultCheckStyle.COUNT)
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     @Column(name = "heading")
     private String heading;
     @Column(name = "description")
     private String description;
-    @Column(name = "date_and_time")
+    @Column(name = "date_and_time", updatable = false)
     private LocalDateTime dateTime;
     @Enumerated(EnumType.STRING)
     @Column(name = "status")
@@ -41,6 +49,32 @@ public class Task {
     @ManyToOne
     @JoinColumn(name = "executor_id")
     private User executor;
-    @OneToMany(mappedBy = "task", cascade = CascadeType.REFRESH, fetch = FetchType.EAGER)
+    @Version
+    @Column(name = "version")
+    private Long version = 0L;
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "task", cascade = CascadeType.REFRESH, fetch = FetchType.LAZY)
     private List<Comment> comments;
+
+    /**
+     * Этот метод запоминает время сохранения новой задачи
+     */
+    @PrePersist
+    private void onCreate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Этот метод запоминает время изменения задачи. Версию задачи при этом увеличивает Hibernate
+     */
+    @PreUpdate
+    private void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,53 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.entity;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-сущность для архивных задач.
+ * Задачи попадают в архив только фоновой архивацией и после этого не изменяются
+ */
+@Entity
+@Immutable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "tasks_archive")
+public class TaskArchive {
+    @Id
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "heading")
+    private String heading;
+    @Column(name = "description")
+    private String description;
+    @Column(name = "date_and_time")
+    private LocalDateTime dateTime;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private Status status;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority")
+    private Priority priority;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id")
+    private User author;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "executor_id")
+    private User executor;
+    @Column(name = "version")
+    private Long version;
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
@@ -20,8 +20,8 @@ public class Token {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Long id;
-    @Column(name = "refresh_token")
-    private String refreshToken;
+    @Column(name = "refresh_token_hash")
+    private String refreshTokenHash;
     @Column(name = "date_time_creation")
     private LocalDateTime dateTimeCreation;
     @Column(name = "date_time_expires")
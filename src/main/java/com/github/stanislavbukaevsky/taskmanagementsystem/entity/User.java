@@ -1,5 +1,6 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.entity;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.cache.UserCacheEvictionListener;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,8 +38,6 @@ public class User {
     private List<Task> authorTask;
     @OneToMany(mappedBy = "executor", fetch = FetchType.LAZY)
     private List<Task> executorTask;
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
-    private Token token;
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<Comment> comments;
 }
@@ -4,5 +4,6 @@ package com.github.stanislavbukaevsky.taskmanagementsystem.enums;
  * Перечисление для разделения ролей пользователя
  */
 public enum Role {
-    USER
+    USER,
+    ADMIN
 }
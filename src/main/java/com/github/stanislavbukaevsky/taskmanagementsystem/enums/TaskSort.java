@@ -0,0 +1,19 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.enums;
+
+/**
+ * Перечисление, для выбора порядка сортировки задач при фильтрации
+ */
+public enum TaskSort {
+    NEWEST("Сначала новые"), OLDEST("Сначала старые"),
+    HIGHEST_PRIORITY("Сначала с высоким приоритетом"), LOWEST_PRIORITY("Сначала с низким приоритетом");
+
+    private final String description;
+
+    TaskSort(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
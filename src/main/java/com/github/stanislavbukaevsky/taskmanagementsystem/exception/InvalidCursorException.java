@@ -0,0 +1,11 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.exception;
+
+/**
+ * Класс-исключение, если передан некорректный курсор пагинации. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
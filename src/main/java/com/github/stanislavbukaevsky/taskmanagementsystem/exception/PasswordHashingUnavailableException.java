@@ -0,0 +1,11 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.exception;
+
+/**
+ * Класс-исключение, если очередь шифрования паролей переполнена. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.exception;
+
+/**
+ * Класс-исключение, если задачу успели изменить в параллельном запросе. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class TaskConflictException extends RuntimeException {
+    public TaskConflictException(String message) {
+        super(message);
+    }
+}
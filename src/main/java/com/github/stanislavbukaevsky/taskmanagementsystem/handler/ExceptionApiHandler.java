@@ -1,7 +1,10 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.handler;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.AuthenticationUsersException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.InvalidCursorException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.LoginAlreadyExistsException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.PasswordHashingUnavailableException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.TaskConflictException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.TaskNotFoundException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.UserByIdNotFoundException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.util.ResponseApiException;
@@ -13,8 +16,10 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +31,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.MALFORMED_JWT_EXCEPTION_MESSAGE_SERVICE;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.TASK_CONFLICT_EXCEPTION;
 
 /**
  * Этот класс для обработки всех исключений приложения на уровне контроллеров
@@ -33,6 +39,7 @@ import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.Except
 @Slf4j
 @RestControllerAdvice
 public class ExceptionApiHandler {
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     /**
      * Этот метод обрабатывает все исключения, возникшие с логином пользователя
@@ -203,6 +210,63 @@ public class ExceptionApiHandler {
                 .body(new ResponseApiException(HttpStatus.NOT_FOUND.value(), exception.getMessage(), getDateTime()));
     }
 
+    /**
+     * Этот метод обрабатывает все исключения, возникшие с некорректным курсором пагинации
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате неправильного запроса
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ResponseApiException> invalidCursorException(InvalidCursorException exception) {
+        log.error(exception.getMessage(), exception);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ResponseApiException(HttpStatus.BAD_REQUEST.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает все исключения, возникшие при переполнении очереди шифрования паролей
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке и время, через которое стоит повторить запрос
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ResponseApiException> passwordHashingUnavailableException(PasswordHashingUnavailableException exception) {
+        log.error(exception.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(new ResponseApiException(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает все исключения, возникшие при параллельном изменении задачи
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате конфликта изменений
+     */
+    @ExceptionHandler(TaskConflictException.class)
+    public ResponseEntity<ResponseApiException> taskConflictException(TaskConflictException exception) {
+        log.error(exception.getMessage(), exception);
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ResponseApiException(HttpStatus.CONFLICT.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает все исключения, возникшие при проверке версии сущности во время сохранения
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате конфликта изменений
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ResponseApiException> objectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException exception) {
+        log.error(exception.getMessage(), exception);
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ResponseApiException(HttpStatus.CONFLICT.value(), TASK_CONFLICT_EXCEPTION, getDateTime()));
+    }
+
     /**
      * Приватный метод, который формирует настоящие дату и время
      *
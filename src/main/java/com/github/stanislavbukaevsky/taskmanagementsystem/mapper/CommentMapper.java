@@ -2,7 +2,9 @@ package com.github.stanislavbukaevsky.taskmanagementsystem.mapper;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentShortResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
 import org.mapstruct.Mapper;
 
 /**
@@ -25,4 +27,12 @@ public interface CommentMapper {
      * @return Возвращает сформированную DTO с ответом пользователю о комментарии
      */
     CommentResponseDto toCommentResponse(Comment comment);
+
+    /**
+     * Этот метод преобразует полученные поля из проекции в DTO, для получения краткой информации о комментарии
+     *
+     * @param projection проекция комментария
+     * @return Возвращает сформированную DTO с краткой информацией о комментарии
+     */
+    CommentShortResponseDto toCommentShortResponse(CommentProjection projection);
 }
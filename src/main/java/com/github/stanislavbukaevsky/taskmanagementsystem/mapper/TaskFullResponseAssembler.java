@@ -0,0 +1,65 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.mapper;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentShortResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentCountProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.LastCommentsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GENERATING_TASK_RESPONSE_MESSAGE_LOGGER_SERVICE;
+
+/**
+ * Этот класс собирает полные ответы о задачах из проекций задач.
+ * К каждой задаче добавляется количество комментариев и несколько последних комментариев,
+ * которые для всего списка загружаются двумя запросами. Используется и для действующих, и для архивных задач
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskFullResponseAssembler {
+    private static final int LAST_COMMENTS_LIMIT = 3;
+    private final TaskMapper taskMapper;
+    private final CommentMapper commentMapper;
+
+    /**
+     * Этот метод формирует список ответов пользователю с информацией о задачах
+     *
+     * @param tasks              список проекций задач
+     * @param commentsRepository репозиторий, из которого загружаются комментарии к задачам
+     * @return Возвращает полную информацию о задачах в порядке списка проекций
+     */
+    public List<TaskFullResponseDto> toTaskFullResponses(List<TaskFullProjection> tasks,
+                                                         LastCommentsRepository commentsRepository) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> taskIds = tasks.stream().map(TaskFullProjection::id).toList();
+        Map<Long, Long> counts = commentsRepository.countCommentsByTaskIds(taskIds)
+                .stream()
+                .collect(Collectors.toMap(CommentCountProjection::taskId, CommentCountProjection::count));
+        Map<Long, List<CommentShortResponseDto>> comments = commentsRepository
+                .findLastCommentProjectionsByTaskIds(taskIds, LAST_COMMENTS_LIMIT)
+                .stream()
+                .collect(Collectors.groupingBy(CommentProjection::taskId,
+                        Collectors.mapping(commentMapper::toCommentShortResponse, Collectors.toList())));
+
+        List<TaskFullResponseDto> responses = new ArrayList<>();
+        for (TaskFullProjection task : tasks) {
+            TaskFullResponseDto response = taskMapper.toTaskFullResponse(task);
+            response.setCommentsCount(counts.getOrDefault(task.id(), 0L));
+            response.setComments(comments.getOrDefault(task.id(), new ArrayList<>()));
+            responses.add(response);
+        }
+        log.info(GENERATING_TASK_RESPONSE_MESSAGE_LOGGER_SERVICE);
+        return responses;
+    }
+}
@@ -6,7 +6,10 @@ import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskPatchProjection;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Маппер-интерфейс, который преобразует информацию о задачах в DTO
@@ -37,6 +40,25 @@ public interface TaskMapper {
      */
     TaskFullResponseDto toTaskFullResponse(Task task);
 
+    /**
+     * Этот метод преобразует полученные поля из проекции в DTO, для получения информации о задачи.
+     * Комментарии к задаче заполняются отдельно. <br>
+     * Используется аннотация {@link Mapping} для игнорирования поля
+     *
+     * @param projection проекция задачи с данными автора
+     * @return Возвращает сформированную DTO с ответом пользователю о задачи
+     */
+    @Mapping(ignore = true, target = "comments")
+    TaskFullResponseDto toTaskFullResponse(TaskFullProjection projection);
+
+    /**
+     * Этот метод преобразует полученные поля из проекции измененной задачи в DTO, для получения информации о задачи
+     *
+     * @param projection проекция задачи с данными автора, возвращенная запросом изменения
+     * @return Возвращает сформированную DTO с ответом пользователю о задачи
+     */
+    TaskResponseDto toTaskResponse(TaskPatchProjection projection);
+
     /**
      * Этот метод формирует описание перечисления
      *
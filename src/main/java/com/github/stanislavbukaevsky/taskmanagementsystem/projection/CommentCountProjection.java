@@ -0,0 +1,10 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+/**
+ * Запись-проекция количества комментариев к задаче
+ *
+ * @param taskId уникальный идентификатор задачи
+ * @param count  количество комментариев к задаче
+ */
+public record CommentCountProjection(Long taskId, Long count) {
+}
@@ -0,0 +1,15 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Запись-проекция комментария к задаче.
+ * Заполняется напрямую из запроса, без загрузки сущностей в контекст персистентности
+ *
+ * @param id       уникальный идентификатор комментария
+ * @param text     текст комментария
+ * @param dateTime дата и время создания комментария
+ * @param taskId   уникальный идентификатор задачи, к которой относится комментарий
+ */
+public record CommentProjection(Long id, String text, LocalDateTime dateTime, Long taskId) {
+}
@@ -0,0 +1,19 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+
+/**
+ * Запись-проекция счетчика задач исполнителя с данными исполнителя
+ *
+ * @param executorId уникальный идентификатор исполнителя
+ * @param firstName  имя исполнителя
+ * @param lastName   фамилия исполнителя
+ * @param email      электронная почта исполнителя
+ * @param status     статус задач
+ * @param priority   приоритет задач
+ * @param count      количество задач исполнителя с этим статусом и приоритетом
+ */
+public record ExecutorTaskCountProjection(Long executorId, String firstName, String lastName, String email,
+                                          Status status, Priority priority, Long count) {
+}
@@ -0,0 +1,38 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Запись-проекция задачи вместе с данными ее автора.
+ * Заполняется напрямую из запроса, без загрузки сущностей в контекст персистентности
+ *
+ * @param id          уникальный идентификатор задачи
+ * @param heading     заголовок задачи
+ * @param description описание задачи
+ * @param dateTime    дата и время создания задачи
+ * @param status      статус задачи
+ * @param priority    приоритет задачи
+ * @param version     версия задачи
+ * @param updatedAt   дата и время последнего изменения задачи
+ * @param firstName   имя автора задачи
+ * @param lastName    фамилия автора задачи
+ * @param email       электронная почта автора задачи
+ * @param role        роль автора задачи
+ */
+public record TaskFullProjection(Long id,
+                                 String heading,
+                                 String description,
+                                 LocalDateTime dateTime,
+                                 Status status,
+                                 Priority priority,
+                                 Long version,
+                                 LocalDateTime updatedAt,
+                                 String firstName,
+                                 String lastName,
+                                 String email,
+                                 Role role) {
+}
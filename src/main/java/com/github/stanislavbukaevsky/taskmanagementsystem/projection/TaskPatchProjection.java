@@ -0,0 +1,97 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * Интерфейс-проекция задачи, возвращенной запросом частичного изменения через RETURNING,
+ * вместе с данными ее автора
+ */
+public interface TaskPatchProjection {
+    /**
+     * Этот метод возвращает уникальный идентификатор задачи
+     *
+     * @return Возвращает уникальный идентификатор задачи
+     */
+    Long getId();
+
+    /**
+     * Этот метод возвращает заголовок задачи
+     *
+     * @return Возвращает заголовок задачи
+     */
+    String getHeading();
+
+    /**
+     * Этот метод возвращает описание задачи
+     *
+     * @return Возвращает описание задачи
+     */
+    String getDescription();
+
+    /**
+     * Этот метод возвращает дату и время создания задачи
+     *
+     * @return Возвращает дату и время создания задачи
+     */
+    LocalDateTime getDateTime();
+
+    /**
+     * Этот метод возвращает статус задачи
+     *
+     * @return Возвращает статус задачи
+     */
+    Status getStatus();
+
+    /**
+     * Этот метод возвращает приоритет задачи
+     *
+     * @return Возвращает приоритет задачи
+     */
+    Priority getPriority();
+
+    /**
+     * Этот метод возвращает новую версию задачи
+     *
+     * @return Возвращает новую версию задачи
+     */
+    Long getVersion();
+
+    /**
+     * Этот метод возвращает дату и время изменения задачи
+     *
+     * @return Возвращает дату и время изменения задачи
+     */
+    LocalDateTime getUpdatedAt();
+
+    /**
+     * Этот метод возвращает имя автора задачи
+     *
+     * @return Возвращает имя автора задачи
+     */
+    String getFirstName();
+
+    /**
+     * Этот метод возвращает фамилию автора задачи
+     *
+     * @return Возвращает фамилию автора задачи
+     */
+    String getLastName();
+
+    /**
+     * Этот метод возвращает электронную почту автора задачи
+     *
+     * @return Возвращает электронную почту автора задачи
+     */
+    String getEmail();
+
+    /**
+     * Этот метод возвращает роль автора задачи
+     *
+     * @return Возвращает роль автора задачи
+     */
+    Role getRole();
+}
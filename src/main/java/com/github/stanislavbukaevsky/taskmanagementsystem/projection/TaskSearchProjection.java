@@ -0,0 +1,20 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+/**
+ * Интерфейс-проекция результата полнотекстового поиска задач
+ */
+public interface TaskSearchProjection {
+    /**
+     * Этот метод возвращает уникальный идентификатор найденной задачи
+     *
+     * @return Возвращает уникальный идентификатор задачи
+     */
+    Long getId();
+
+    /**
+     * Этот метод возвращает релевантность задачи поисковому запросу
+     *
+     * @return Возвращает ранг задачи, чем больше, тем выше задача в результатах поиска
+     */
+    Float getRank();
+}
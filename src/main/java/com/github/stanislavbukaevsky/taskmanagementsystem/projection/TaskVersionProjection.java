@@ -0,0 +1,15 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Запись-проекция версии задачи, по которой формируются заголовки ETag и Last-Modified.
+ * Загружается без данных автора и комментариев, поэтому проверка неизменившейся задачи дешевле сборки ответа
+ *
+ * @param id        уникальный идентификатор задачи
+ * @param version   версия задачи, увеличивается при каждом изменении задачи и добавлении комментария
+ * @param updatedAt дата и время последнего изменения задачи
+ * @param authorId  уникальный идентификатор автора задачи
+ */
+public record TaskVersionProjection(Long id, Long version, LocalDateTime updatedAt, Long authorId) {
+}
@@ -0,0 +1,13 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.projection;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
+
+/**
+ * Запись-проекция владельца действующего refresh-токена
+ *
+ * @param id    уникальный идентификатор пользователя
+ * @param email электронная почта пользователя
+ * @param role  роль пользователя
+ */
+public record TokenUserProjection(Long id, String email, Role role) {
+}
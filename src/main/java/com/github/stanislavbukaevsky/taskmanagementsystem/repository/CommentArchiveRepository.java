@@ -0,0 +1,46 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.CommentArchive;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentCountProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Интерфейс-репозиторий для работы с комментариями к архивным задачам.
+ * Наследуется от интерфейса {@link JpaRepository}. Параметры: <br>
+ * {@link CommentArchive} - класс-сущность <br>
+ * {@link Long} - идентификатор <br>
+ * Также наследуется от интерфейса {@link LastCommentsRepository}
+ */
+@Repository
+public interface CommentArchiveRepository extends JpaRepository<CommentArchive, Long>, LastCommentsRepository {
+    /**
+     * Этот метод ищет несколько последних комментариев к каждой из архивных задач одним запросом
+     *
+     * @param taskIds уникальные идентификаторы задач
+     * @param limit   максимальное количество комментариев к одной задаче
+     * @return Возвращает список проекций найденных комментариев, отсортированных от новых к старым
+     */
+    @Override
+    @Query("SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection(" +
+            "c.id, c.text, c.dateTime, t.id) FROM TaskArchive t JOIN LATERAL (" +
+            "SELECT lc.id id, lc.text text, lc.dateTime dateTime FROM CommentArchive lc WHERE lc.task.id = t.id " +
+            "ORDER BY lc.id DESC LIMIT :limit) c WHERE t.id IN :taskIds ORDER BY t.id, c.id DESC")
+    List<CommentProjection> findLastCommentProjectionsByTaskIds(Collection<Long> taskIds, int limit);
+
+    /**
+     * Этот метод считает количество комментариев к каждой из архивных задач одним запросом
+     *
+     * @param taskIds уникальные идентификаторы задач
+     * @return Возвращает список проекций с количеством комментариев. Задачи без комментариев в список не попадают
+     */
+    @Override
+    @Query("SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentCountProjection(" +
+            "c.task.id, COUNT(c.id)) FROM CommentArchive c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+    List<CommentCountProjection> countCommentsByTaskIds(Collection<Long> taskIds);
+}
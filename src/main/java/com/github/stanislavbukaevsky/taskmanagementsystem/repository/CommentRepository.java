@@ -1,15 +1,97 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentCountProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Интерфейс-репозиторий для работы со всеми комментариями к задачам на платформе.
  * Наследуется от интерфейса {@link JpaRepository}. Параметры: <br>
  * {@link Comment} - класс-сущность <br>
  * {@link Long} - идентификатор <br>
+ * Также наследуется от интерфейса {@link LastCommentsRepository}
  */
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, LastCommentsRepository {
+    /**
+     * Этот метод ищет страницу проекций комментариев к задаче, созданных раньше комментария из курсора.
+     * Комментарии отсортированы от новых к старым. Комментарий не бывает старше своей задачи,
+     * поэтому секции комментариев за месяцы до создания задачи не просматриваются
+     *
+     * @param taskId       уникальный идентификатор задачи
+     * @param taskDateTime дата и время создания задачи
+     * @param after        уникальный идентификатор комментария, после которого начинается страница
+     * @param limit        максимальное количество комментариев на странице
+     * @return Возвращает список проекций найденных комментариев
+     */
+    @Query("SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection(" +
+            "c.id, c.text, c.dateTime, c.task.id) FROM Comment c " +
+            "WHERE c.task.id = :taskId AND c.dateTime >= :taskDateTime AND c.id < :after ORDER BY c.id DESC")
+    List<CommentProjection> findCommentProjectionsByTaskIdAfter(Long taskId, LocalDateTime taskDateTime, Long after, Limit limit);
+
+    /**
+     * Этот метод ищет несколько последних комментариев к каждой из задач одним запросом
+     *
+     * @param taskIds уникальные идентификаторы задач
+     * @param limit   максимальное количество комментариев к одной задаче
+     * @return Возвращает список проекций найденных комментариев, отсортированных от новых к старым
+     */
+    @Override
+    @Query("SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection(" +
+            "c.id, c.text, c.dateTime, t.id) FROM Task t JOIN LATERAL (" +
+            "SELECT lc.id id, lc.text text, lc.dateTime dateTime FROM Comment lc " +
+            "WHERE lc.task.id = t.id AND lc.dateTime >= t.dateTime " +
+            "ORDER BY lc.id DESC LIMIT :limit) c WHERE t.id IN :taskIds ORDER BY t.id, c.id DESC")
+    List<CommentProjection> findLastCommentProjectionsByTaskIds(Collection<Long> taskIds, int limit);
+
+    /**
+     * Этот метод считает количество комментариев к каждой из задач одним запросом
+     *
+     * @param taskIds уникальные идентификаторы задач
+     * @return Возвращает список проекций с количеством комментариев. Задачи без комментариев в список не попадают
+     */
+    @Override
+    @Query("SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentCountProjection(" +
+            "c.task.id, COUNT(c.id)) FROM Comment c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+    List<CommentCountProjection> countCommentsByTaskIds(Collection<Long> taskIds);
+
+    /**
+     * Этот метод физически удаляет пачку комментариев к задачам, помеченным удаленными.
+     * Комментарии, заблокированные другими транзакциями, пропускаются
+     *
+     * @param limit максимальное количество комментариев в пачке
+     * @return Возвращает количество удаленных комментариев
+     */
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE (id, date_and_time) IN (" +
+            "SELECT c.id, c.date_and_time FROM comments c " +
+            "WHERE c.task_id IN (SELECT t.id FROM tasks t WHERE t.deleted_at IS NOT NULL) " +
+            "LIMIT :limit FOR UPDATE OF c SKIP LOCKED)", nativeQuery = true)
+    int purgeDeletedTaskComments(int limit);
+
+    /**
+     * Этот метод создает недостающие месячные секции таблицы комментариев от текущего месяца на несколько месяцев вперед
+     *
+     * @param monthsAhead на сколько месяцев вперед создавать секции
+     * @return Возвращает количество созданных секций
+     */
+    @Query(value = "SELECT create_monthly_partitions('comments', CURRENT_DATE, :monthsAhead)", nativeQuery = true)
+    int createCommentsPartitions(int monthsAhead);
+
+    /**
+     * Этот метод считает строки таблицы комментариев, попавшие в секцию по умолчанию, потому что месячная секция не была создана
+     *
+     * @return Возвращает количество строк в секции по умолчанию
+     */
+    @Query(value = "SELECT count(*) FROM comments_default", nativeQuery = true)
+    long countCommentsInDefaultPartition();
 }
@@ -0,0 +1,56 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.ExecutorTaskCounter;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.ExecutorTaskCounterId;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.ExecutorTaskCountProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Интерфейс-репозиторий для работы со счетчиками задач исполнителей.
+ * Наследуется от интерфейса {@link JpaRepository}. Параметры: <br>
+ * {@link ExecutorTaskCounter} - класс-сущность <br>
+ * {@link ExecutorTaskCounterId} - идентификатор <br>
+ */
+@Repository
+public interface ExecutorTaskCounterRepository extends JpaRepository<ExecutorTaskCounter, ExecutorTaskCounterId> {
+    String SELECT_EXECUTOR_TASK_COUNT_PROJECTION = "SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.ExecutorTaskCountProjection(" +
+            "u.id, u.firstName, u.lastName, u.email, c.id.status, c.id.priority, c.taskCount) " +
+            "FROM ExecutorTaskCounter c JOIN User u ON u.id = c.id.executorId ";
+
+    /**
+     * Этот метод атомарно изменяет счетчик задач исполнителя, создавая его при первом обращении
+     *
+     * @param executorId уникальный идентификатор исполнителя
+     * @param status     статус задач
+     * @param priority   приоритет задач
+     * @param delta      на сколько изменить счетчик
+     */
+    @Modifying
+    @Query(value = "INSERT INTO executor_task_counters (executor_id, status, priority, task_count) " +
+            "VALUES (:executorId, :status, :priority, :delta) " +
+            "ON CONFLICT (executor_id, status, priority) " +
+            "DO UPDATE SET task_count = executor_task_counters.task_count + EXCLUDED.task_count", nativeQuery = true)
+    void addToCounter(Long executorId, String status, String priority, long delta);
+
+    /**
+     * Этот метод ищет ненулевые счетчики задач всех исполнителей
+     *
+     * @return Возвращает список счетчиков с данными исполнителей, сгруппированный по исполнителям
+     */
+    @Query(SELECT_EXECUTOR_TASK_COUNT_PROJECTION + "WHERE c.taskCount > 0 ORDER BY u.id")
+    List<ExecutorTaskCountProjection> findExecutorTaskCounts();
+
+    /**
+     * Этот метод ищет ненулевые счетчики задач конкретного исполнителя
+     *
+     * @param executorId уникальный идентификатор исполнителя
+     * @return Возвращает список счетчиков с данными исполнителя
+     */
+    @Query(SELECT_EXECUTOR_TASK_COUNT_PROJECTION + "WHERE c.id.executorId = :executorId AND c.taskCount > 0")
+    List<ExecutorTaskCountProjection> findExecutorTaskCountsByExecutorId(Long executorId);
+}
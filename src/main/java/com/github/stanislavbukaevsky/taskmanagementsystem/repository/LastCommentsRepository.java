@@ -0,0 +1,30 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentCountProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Интерфейс для загрузки комментариев, которые входят в полный ответ о задачах.
+ * Реализуется репозиториями комментариев к действующим и к архивным задачам
+ */
+public interface LastCommentsRepository {
+    /**
+     * Этот метод ищет несколько последних комментариев к каждой из задач одним запросом
+     *
+     * @param taskIds уникальные идентификаторы задач
+     * @param limit   максимальное количество комментариев к одной задаче
+     * @return Возвращает список проекций найденных комментариев, отсортированных от новых к старым
+     */
+    List<CommentProjection> findLastCommentProjectionsByTaskIds(Collection<Long> taskIds, int limit);
+
+    /**
+     * Этот метод считает количество комментариев к каждой из задач одним запросом
+     *
+     * @param taskIds уникальные идентификаторы задач
+     * @return Возвращает список проекций с количеством комментариев. Задачи без комментариев в список не попадают
+     */
+    List<CommentCountProjection> countCommentsByTaskIds(Collection<Long> taskIds);
+}
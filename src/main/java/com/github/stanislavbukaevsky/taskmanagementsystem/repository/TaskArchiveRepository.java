@@ -0,0 +1,83 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.TaskArchive;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Интерфейс-репозиторий для работы с архивными задачами.
+ * Наследуется от интерфейса {@link JpaRepository}. Параметры: <br>
+ * {@link TaskArchive} - класс-сущность <br>
+ * {@link Long} - идентификатор <br>
+ * Архивные задачи читаются в те же проекции {@link TaskFullProjection}, что и рабочие
+ */
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long> {
+    String SELECT_TASK_ARCHIVE_FULL_PROJECTION = "SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection(" +
+            "t.id, t.heading, t.description, t.dateTime, t.status, t.priority, t.version, t.updatedAt, a.firstName, a.lastName, a.email, a.role) " +
+            "FROM TaskArchive t JOIN t.author a ";
+
+    /**
+     * Этот метод переносит пачку завершенных задач вместе с комментариями в архив одним запросом.
+     * Переносятся задачи, которые не изменялись с указанного момента. Задачи, заблокированные другими транзакциями,
+     * пропускаются, а счетчики задач исполнителей уменьшаются в том же запросе
+     *
+     * @param completedBefore момент, после которого задача не должна была изменяться
+     * @param archivedAt      дата и время архивации
+     * @param limit           максимальное количество задач в пачке
+     * @return Возвращает идентификаторы перенесенных в архив задач
+     */
+    @Query(value = "WITH batch AS (" +
+            "SELECT t.id FROM tasks t WHERE t.status = 'COMPLETED' AND t.deleted_at IS NULL AND t.updated_at < :completedBefore " +
+            "ORDER BY t.updated_at LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+            "moved AS (" +
+            "DELETE FROM tasks t WHERE t.id IN (SELECT batch.id FROM batch) " +
+            "RETURNING t.id, t.heading, t.description, t.date_and_time, t.status, t.priority, t.author_id, t.executor_id, " +
+            "t.version, t.updated_at), " +
+            "archived AS (" +
+            "INSERT INTO tasks_archive (id, heading, description, date_and_time, status, priority, author_id, executor_id, " +
+            "version, updated_at, archived_at) " +
+            "SELECT moved.id, moved.heading, moved.description, moved.date_and_time, moved.status, moved.priority, " +
+            "moved.author_id, moved.executor_id, moved.version, moved.updated_at, :archivedAt FROM moved), " +
+            "moved_comments AS (" +
+            "DELETE FROM comments c WHERE c.task_id IN (SELECT batch.id FROM batch) " +
+            "RETURNING c.id, c.text, c.date_and_time, c.task_id, c.user_id), " +
+            "archived_comments AS (" +
+            "INSERT INTO comments_archive (id, text, date_and_time, task_id, user_id) " +
+            "SELECT moved_comments.id, moved_comments.text, moved_comments.date_and_time, moved_comments.task_id, " +
+            "moved_comments.user_id FROM moved_comments), " +
+            "counters AS (" +
+            "INSERT INTO executor_task_counters (executor_id, status, priority, task_count) " +
+            "SELECT moved.executor_id, moved.status, moved.priority, -COUNT(*) FROM moved " +
+            "WHERE moved.executor_id IS NOT NULL GROUP BY moved.executor_id, moved.status, moved.priority " +
+            "ON CONFLICT (executor_id, status, priority) " +
+            "DO UPDATE SET task_count = executor_task_counters.task_count + EXCLUDED.task_count) " +
+            "SELECT moved.id FROM moved", nativeQuery = true)
+    List<Long> archiveCompletedTasks(LocalDateTime completedBefore, LocalDateTime archivedAt, int limit);
+
+    /**
+     * Этот метод ищет архивную задачу по идентификатору и возвращает ее проекцию с данными автора
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает проекцию найденной задачи
+     */
+    @Query(SELECT_TASK_ARCHIVE_FULL_PROJECTION + "WHERE t.id = :id")
+    Optional<TaskFullProjection> findTaskFullProjectionById(Long id);
+
+    /**
+     * Этот метод ищет страницу проекций архивных задач конкретного автора
+     *
+     * @param id       уникальный идентификатор автора задачи
+     * @param pageable страница и сортировка
+     * @return Возвращает список проекций найденных задач
+     */
+    @Query(SELECT_TASK_ARCHIVE_FULL_PROJECTION + "WHERE a.id = :id")
+    List<TaskFullProjection> findTaskFullProjectionsByAuthorId(Long id, Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.TaskSort;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Интерфейс-фрагмент репозитория задач для фильтрации по произвольному набору условий.
+ * Подключается к {@link TaskRepository}, реализация находится в {@link TaskFilterRepositoryImpl}
+ */
+public interface TaskFilterRepository {
+    /**
+     * Этот метод ищет проекции задач, подходящих под спецификацию, в выбранном порядке
+     *
+     * @param specification условия отбора задач
+     * @param sort          порядок сортировки задач
+     * @param pageable      объект пагинации, сортировка из него не используется
+     * @return Возвращает список проекций найденных задач
+     */
+    List<TaskFullProjection> findTaskFullProjections(Specification<Task> specification, TaskSort sort, Pageable pageable);
+}
@@ -0,0 +1,78 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.TaskSort;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Класс-реализация фрагмента {@link TaskFilterRepository}.
+ * Запрос строится через Criteria API и сразу выбирает проекцию задачи с данными автора, без загрузки сущностей.
+ * Условия отбора покрываются составными индексами из changelog create-tasks-filter-indexes
+ */
+@RequiredArgsConstructor
+public class TaskFilterRepositoryImpl implements TaskFilterRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * Реализация метода для поиска проекций задач, подходящих под спецификацию, в выбранном порядке
+     *
+     * @param specification условия отбора задач
+     * @param sort          порядок сортировки задач
+     * @param pageable      объект пагинации, сортировка из него не используется
+     * @return Возвращает список проекций найденных задач
+     */
+    @Override
+    public List<TaskFullProjection> findTaskFullProjections(Specification<Task> specification, TaskSort sort, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskFullProjection> query = builder.createQuery(TaskFullProjection.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> author = task.join("author");
+
+        query.select(builder.construct(TaskFullProjection.class,
+                task.get("id"), task.get("heading"), task.get("description"), task.get("dateTime"),
+                task.get("status"), task.get("priority"), task.get("version"), task.get("updatedAt"),
+                author.get("firstName"), author.get("lastName"), author.get("email"), author.get("role")));
+        Predicate predicate = specification.toPredicate(task, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(generatingOrders(task, builder, sort));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    /**
+     * Приватный метод для генерации порядка сортировки задач.
+     * Задачи с одинаковым значением сортировки упорядочиваются по идентификатору, чтобы страницы не пересекались
+     *
+     * @param task    корень запроса
+     * @param builder построитель запроса
+     * @param sort    порядок сортировки задач
+     * @return Возвращает список правил сортировки
+     */
+    private List<Order> generatingOrders(Root<Task> task, CriteriaBuilder builder, TaskSort sort) {
+        Expression<Integer> priorityRank = builder.<Priority, Integer>selectCase(task.get("priority"))
+                .when(Priority.HIGH, 0)
+                .when(Priority.AVERAGE, 1)
+                .otherwise(2);
+
+        return switch (sort) {
+            case NEWEST -> List.of(builder.desc(task.get("dateTime")), builder.desc(task.get("id")));
+            case OLDEST -> List.of(builder.asc(task.get("dateTime")), builder.asc(task.get("id")));
+            case HIGHEST_PRIORITY -> List.of(builder.asc(priorityRank), builder.desc(task.get("dateTime")), builder.desc(task.get("id")));
+            case LOWEST_PRIORITY -> List.of(builder.desc(priorityRank), builder.desc(task.get("dateTime")), builder.desc(task.get("id")));
+        };
+    }
+}
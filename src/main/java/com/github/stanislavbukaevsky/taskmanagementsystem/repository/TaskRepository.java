@@ -1,35 +1,447 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskPatchProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskSearchProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Интерфейс-репозиторий для работы со всеми задачами на платформе.
  * Наследуется от интерфейса {@link JpaRepository}. Параметры: <br>
  * {@link Task} - класс-сущность <br>
  * {@link Long} - идентификатор <br>
+ * Задачи, помеченные удаленными, отфильтрованы у сущности, а в нативных запросах условие на deleted_at указано явно.
+ * Задачи для изменения загружаются вместе с автором и исполнителем через {@link EntityGraph},
+ * а для чтения используются проекции {@link TaskFullProjection}, без загрузки сущностей.
+ * Фильтрация по произвольному набору условий вынесена во фрагмент {@link TaskFilterRepository}. <br>
+ * Таблица секционирована по дате создания задачи. Запросы, которые изменяют уже прочитанную задачу,
+ * получают дату создания вместе с идентификатором и обращаются к одной секции.
+ * Поиск только по идентификатору проверяет индекс первичного ключа каждой секции. Он нужен там, где в запросе
+ * есть лишь идентификатор из адреса: при чтении задачи, которое кэшируется, при первом чтении перед изменением
+ * и в частичном изменении одним запросом. Секции небольшие, потому что завершенные задачи уходят в архив,
+ * а удаленные удаляются физически, поэтому такой поиск остается дешевым
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFilterRepository {
+    String SELECT_TASK_FULL_PROJECTION = "SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection(" +
+            "t.id, t.heading, t.description, t.dateTime, t.status, t.priority, t.version, t.updatedAt, a.firstName, a.lastName, a.email, a.role) " +
+            "FROM Task t JOIN t.author a ";
+    String SELECT_TASK_VERSION_PROJECTION = "SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection(" +
+            "t.id, t.version, t.updatedAt, t.author.id) FROM Task t ";
+    String INCREMENT_VERSION_WHERE_VERSION = "t.version = t.version + 1, t.updatedAt = :updatedAt WHERE t.id = :id AND t.dateTime = :dateTime AND t.version = :version";
+    String EXPORT_FETCH_SIZE = "500";
+    String RETURNING_OLD_COUNTER_STATE = "RETURNING t.id, t.executor_id, t.status, t.priority, " +
+            "old.executor_id AS old_executor_id, old.status AS old_status, old.priority AS old_priority), ";
+    String UPSERT_COUNTERS_FROM_UPD = "counters AS (" +
+            "INSERT INTO executor_task_counters (executor_id, status, priority, task_count) " +
+            "SELECT c.executor_id, c.status, c.priority, SUM(c.delta) FROM (" +
+            "SELECT old_executor_id AS executor_id, old_status AS status, old_priority AS priority, -1 AS delta FROM upd " +
+            "UNION ALL SELECT executor_id, status, priority, 1 FROM upd) c " +
+            "WHERE c.executor_id IS NOT NULL GROUP BY c.executor_id, c.status, c.priority " +
+            "ON CONFLICT (executor_id, status, priority) " +
+            "DO UPDATE SET task_count = executor_task_counters.task_count + EXCLUDED.task_count) ";
+
+    /**
+     * Этот метод ищет задачу по идентификатору вместе с автором и исполнителем
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает найденную задачу
+     */
+    @Override
+    @EntityGraph(attributePaths = {"author", "executor"})
+    Optional<Task> findById(Long id);
+
+    /**
+     * Этот метод ищет задачу по идентификатору и возвращает ее проекцию с данными автора
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает проекцию найденной задачи
+     */
+    @Query(SELECT_TASK_FULL_PROJECTION + "WHERE t.id = :id")
+    Optional<TaskFullProjection> findTaskFullProjectionById(Long id);
+
+    /**
+     * Этот метод ищет версию задачи по идентификатору без загрузки данных автора и комментариев
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает проекцию версии найденной задачи
+     */
+    @Query(SELECT_TASK_VERSION_PROJECTION + "WHERE t.id = :id")
+    Optional<TaskVersionProjection> findTaskVersionById(Long id);
+
     /**
-     * Этот метод ищет задачи конкретного автора в выбранном порядке
+     * Этот метод ищет дату и время создания задачи по идентификатору
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает дату и время создания найденной задачи
+     */
+    @Query("SELECT t.dateTime FROM Task t WHERE t.id = :id")
+    Optional<LocalDateTime> findTaskDateTimeById(Long id);
+
+    /**
+     * Этот метод ищет версии задач конкретного автора в выбранном порядке
      *
      * @param id       уникальный идентификатор автора задачи
      * @param pageable объект пагинации
-     * @return Возвращает список найденных задач конкретного автора
+     * @return Возвращает список проекций версий найденных задач конкретного автора
      */
-    List<Task> findTasksByAuthorId(Long id, Pageable pageable);
+    @Query(SELECT_TASK_VERSION_PROJECTION + "WHERE t.author.id = :id")
+    List<TaskVersionProjection> findTaskVersionsByAuthorId(Long id, Pageable pageable);
 
     /**
-     * Этот метод ищет задачи конкретного исполнителя в выбранном порядке
+     * Этот метод ищет версии задач конкретного исполнителя в выбранном порядке
      *
      * @param id       уникальный идентификатор исполнителя задачи
      * @param pageable объект пагинации
-     * @return Возвращает список найденных задач конкретного исполнителя
+     * @return Возвращает список проекций версий найденных задач конкретного исполнителя
+     */
+    @Query(SELECT_TASK_VERSION_PROJECTION + "WHERE t.executor.id = :id")
+    List<TaskVersionProjection> findTaskVersionsByExecutorId(Long id, Pageable pageable);
+
+    /**
+     * Этот метод ищет версии задач конкретного автора, идущих после курсора, от новых к старым
+     *
+     * @param id    уникальный идентификатор автора задачи
+     * @param after идентификатор задачи, после которой начинается страница
+     * @param limit максимальное количество задач
+     * @return Возвращает список проекций версий найденных задач конкретного автора
+     */
+    @Query(SELECT_TASK_VERSION_PROJECTION + "WHERE t.author.id = :id AND t.id < :after ORDER BY t.id DESC")
+    List<TaskVersionProjection> findTaskVersionsByAuthorIdAfter(Long id, Long after, Limit limit);
+
+    /**
+     * Этот метод ищет версии задач конкретного исполнителя, идущих после курсора, от новых к старым
+     *
+     * @param id    уникальный идентификатор исполнителя задачи
+     * @param after идентификатор задачи, после которой начинается страница
+     * @param limit максимальное количество задач
+     * @return Возвращает список проекций версий найденных задач конкретного исполнителя
+     */
+    @Query(SELECT_TASK_VERSION_PROJECTION + "WHERE t.executor.id = :id AND t.id < :after ORDER BY t.id DESC")
+    List<TaskVersionProjection> findTaskVersionsByExecutorIdAfter(Long id, Long after, Limit limit);
+
+    /**
+     * Этот метод изменяет заголовок и описание задачи одним запросом, если версия задачи не изменилась
+     *
+     * @param id          уникальный идентификатор задачи
+     * @param dateTime    дата и время создания задачи, по которой выбирается секция
+     * @param version     ожидаемая версия задачи
+     * @param heading     новый заголовок задачи
+     * @param description новое описание задачи
+     * @param updatedAt   дата и время изменения
+     * @return Возвращает количество измененных задач, 0, если задачу уже изменили в другом запросе
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.heading = :heading, t.description = :description, " + INCREMENT_VERSION_WHERE_VERSION)
+    int updateTaskContent(Long id, LocalDateTime dateTime, Long version, String heading, String description, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод изменяет статус задачи одним запросом, если версия задачи не изменилась
+     *
+     * @param id        уникальный идентификатор задачи
+     * @param dateTime  дата и время создания задачи, по которой выбирается секция
+     * @param version   ожидаемая версия задачи
+     * @param status    новый статус задачи
+     * @param updatedAt дата и время изменения
+     * @return Возвращает количество измененных задач, 0, если задачу уже изменили в другом запросе
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, " + INCREMENT_VERSION_WHERE_VERSION)
+    int updateTaskStatus(Long id, LocalDateTime dateTime, Long version, Status status, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод изменяет приоритет задачи одним запросом, если версия задачи не изменилась
+     *
+     * @param id        уникальный идентификатор задачи
+     * @param dateTime  дата и время создания задачи, по которой выбирается секция
+     * @param version   ожидаемая версия задачи
+     * @param priority  новый приоритет задачи
+     * @param updatedAt дата и время изменения
+     * @return Возвращает количество измененных задач, 0, если задачу уже изменили в другом запросе
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority, " + INCREMENT_VERSION_WHERE_VERSION)
+    int updateTaskPriority(Long id, LocalDateTime dateTime, Long version, Priority priority, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод назначает исполнителя задачи одним запросом, если версия задачи не изменилась
+     *
+     * @param id        уникальный идентификатор задачи
+     * @param dateTime  дата и время создания задачи, по которой выбирается секция
+     * @param version   ожидаемая версия задачи
+     * @param executor  новый исполнитель задачи
+     * @param updatedAt дата и время изменения
+     * @return Возвращает количество измененных задач, 0, если задачу уже изменили в другом запросе
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.executor = :executor, " + INCREMENT_VERSION_WHERE_VERSION)
+    int updateTaskExecutor(Long id, LocalDateTime dateTime, Long version, User executor, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод помечает задачу удаленной одним запросом, если версия задачи не изменилась
+     *
+     * @param id        уникальный идентификатор задачи
+     * @param dateTime  дата и время создания задачи, по которой выбирается секция
+     * @param version   ожидаемая версия задачи
+     * @param updatedAt дата и время удаления
+     * @return Возвращает количество удаленных задач, 0, если задачу уже изменили в другом запросе
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = :updatedAt, " + INCREMENT_VERSION_WHERE_VERSION)
+    int softDeleteTask(Long id, LocalDateTime dateTime, Long version, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод частично изменяет задачу одним запросом и возвращает ее новое состояние через RETURNING.
+     * Задача изменяется, только если ее автор - текущий пользователь, версия совпадает с ожидаемой
+     * (отрицательная версия не проверяется), а новый исполнитель существует. В том же запросе
+     * счетчики задач исполнителей переносятся со старого состояния задачи на новое
+     *
+     * @param id             уникальный идентификатор задачи
+     * @param authorId       уникальный идентификатор текущего пользователя
+     * @param version        ожидаемая версия задачи или -1, чтобы не проверять версию
+     * @param setHeading     изменять ли заголовок задачи
+     * @param heading        новый заголовок задачи
+     * @param setDescription изменять ли описание задачи
+     * @param description    новое описание задачи
+     * @param setPriority    изменять ли приоритет задачи
+     * @param priority       новый приоритет задачи
+     * @param setExecutor    изменять ли исполнителя задачи
+     * @param executorEmail  электронная почта нового исполнителя или пустая строка, чтобы снять исполнителя
+     * @param updatedAt      дата и время изменения
+     * @return Возвращает проекцию измененной задачи или пустой результат, если условия изменения не выполнены
+     */
+    @Query(value = "WITH old AS (" +
+            "SELECT t.id, t.executor_id, t.status, t.priority FROM tasks t " +
+            "WHERE t.id = :id AND t.author_id = :authorId AND t.deleted_at IS NULL AND (:version < 0 OR t.version = :version) " +
+            "AND (NOT :setExecutor OR :executorEmail = '' OR EXISTS (SELECT 1 FROM users u WHERE u.email = :executorEmail)) " +
+            "FOR UPDATE), " +
+            "upd AS (" +
+            "UPDATE tasks t SET " +
+            "heading = CASE WHEN :setHeading THEN :heading ELSE t.heading END, " +
+            "description = CASE WHEN :setDescription THEN :description ELSE t.description END, " +
+            "priority = CASE WHEN :setPriority THEN :priority ELSE t.priority END, " +
+            "executor_id = CASE WHEN :setExecutor THEN (SELECT u.id FROM users u WHERE u.email = :executorEmail) ELSE t.executor_id END, " +
+            "version = t.version + 1, updated_at = :updatedAt " +
+            "FROM old WHERE t.id = old.id " +
+            "RETURNING t.id, t.heading, t.description, t.date_and_time, t.status, t.priority, t.executor_id, " +
+            "t.version, t.updated_at, t.author_id, old.executor_id AS old_executor_id, old.status AS old_status, old.priority AS old_priority), " +
+            UPSERT_COUNTERS_FROM_UPD +
+            "SELECT upd.id AS id, upd.heading AS heading, upd.description AS description, upd.date_and_time AS dateTime, " +
+            "upd.status AS status, upd.priority AS priority, upd.version AS version, upd.updated_at AS updatedAt, " +
+            "a.first_name AS firstName, a.last_name AS lastName, a.email AS email, a.role AS role " +
+            "FROM upd JOIN users a ON a.id = upd.author_id", nativeQuery = true)
+    Optional<TaskPatchProjection> patchTask(Long id, Long authorId, long version,
+                                            boolean setHeading, String heading,
+                                            boolean setDescription, String description,
+                                            boolean setPriority, String priority,
+                                            boolean setExecutor, String executorEmail,
+                                            LocalDateTime updatedAt);
+
+    /**
+     * Этот метод изменяет статус сразу многих задач одним запросом. Изменяются только задачи,
+     * исполнитель которых - текущий пользователь и статус которых отличается от нового.
+     * В том же запросе переносятся счетчики задач исполнителя
+     *
+     * @param ids        уникальные идентификаторы задач
+     * @param executorId уникальный идентификатор текущего пользователя
+     * @param status     новый статус задач
+     * @param updatedAt  дата и время изменения
+     * @return Возвращает идентификаторы измененных задач
+     */
+    @Query(value = "WITH old AS (" +
+            "SELECT t.id, t.executor_id, t.status, t.priority FROM tasks t " +
+            "WHERE t.id IN :ids AND t.executor_id = :executorId AND t.deleted_at IS NULL AND t.status <> :status FOR UPDATE), " +
+            "upd AS (" +
+            "UPDATE tasks t SET status = :status, version = t.version + 1, updated_at = :updatedAt " +
+            "FROM old WHERE t.id = old.id " +
+            RETURNING_OLD_COUNTER_STATE +
+            UPSERT_COUNTERS_FROM_UPD +
+            "SELECT upd.id FROM upd", nativeQuery = true)
+    List<Long> updateTasksStatus(Collection<Long> ids, Long executorId, String status, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод изменяет приоритет сразу многих задач одним запросом. Изменяются только задачи,
+     * автор которых - текущий пользователь и приоритет которых отличается от нового.
+     * В том же запросе переносятся счетчики задач исполнителей
+     *
+     * @param ids       уникальные идентификаторы задач
+     * @param authorId  уникальный идентификатор текущего пользователя
+     * @param priority  новый приоритет задач
+     * @param updatedAt дата и время изменения
+     * @return Возвращает идентификаторы измененных задач
+     */
+    @Query(value = "WITH old AS (" +
+            "SELECT t.id, t.executor_id, t.status, t.priority FROM tasks t " +
+            "WHERE t.id IN :ids AND t.author_id = :authorId AND t.deleted_at IS NULL AND t.priority <> :priority FOR UPDATE), " +
+            "upd AS (" +
+            "UPDATE tasks t SET priority = :priority, version = t.version + 1, updated_at = :updatedAt " +
+            "FROM old WHERE t.id = old.id " +
+            RETURNING_OLD_COUNTER_STATE +
+            UPSERT_COUNTERS_FROM_UPD +
+            "SELECT upd.id FROM upd", nativeQuery = true)
+    List<Long> updateTasksPriority(Collection<Long> ids, Long authorId, String priority, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод назначает исполнителя сразу многим задачам одним запросом. Изменяются только задачи,
+     * автор которых - текущий пользователь и исполнитель которых отличается от нового.
+     * В том же запросе переносятся счетчики задач исполнителей
+     *
+     * @param ids        уникальные идентификаторы задач
+     * @param authorId   уникальный идентификатор текущего пользователя
+     * @param executorId уникальный идентификатор нового исполнителя
+     * @param updatedAt  дата и время изменения
+     * @return Возвращает идентификаторы измененных задач
+     */
+    @Query(value = "WITH old AS (" +
+            "SELECT t.id, t.executor_id, t.status, t.priority FROM tasks t " +
+            "WHERE t.id IN :ids AND t.author_id = :authorId AND t.deleted_at IS NULL AND t.executor_id IS DISTINCT FROM :executorId FOR UPDATE), " +
+            "upd AS (" +
+            "UPDATE tasks t SET executor_id = :executorId, version = t.version + 1, updated_at = :updatedAt " +
+            "FROM old WHERE t.id = old.id " +
+            RETURNING_OLD_COUNTER_STATE +
+            UPSERT_COUNTERS_FROM_UPD +
+            "SELECT upd.id FROM upd", nativeQuery = true)
+    List<Long> updateTasksExecutor(Collection<Long> ids, Long authorId, Long executorId, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод помечает удаленными сразу многие задачи одним запросом. Удаляются только задачи, автор которых - текущий пользователь.
+     * Задачи и комментарии к ним физически удаляются в фоне, а счетчики задач исполнителей уменьшаются в том же запросе
+     *
+     * @param ids      уникальные идентификаторы задач
+     * @param authorId  уникальный идентификатор текущего пользователя
+     * @param deletedAt дата и время удаления
+     * @return Возвращает идентификаторы удаленных задач
+     */
+    @Query(value = "WITH del AS (" +
+            "UPDATE tasks t SET deleted_at = :deletedAt, updated_at = :deletedAt, version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.author_id = :authorId AND t.deleted_at IS NULL " +
+            "RETURNING t.id, t.executor_id, t.status, t.priority), " +
+            "counters AS (" +
+            "INSERT INTO executor_task_counters (executor_id, status, priority, task_count) " +
+            "SELECT del.executor_id, del.status, del.priority, -COUNT(*) FROM del " +
+            "WHERE del.executor_id IS NOT NULL GROUP BY del.executor_id, del.status, del.priority " +
+            "ON CONFLICT (executor_id, status, priority) " +
+            "DO UPDATE SET task_count = executor_task_counters.task_count + EXCLUDED.task_count) " +
+            "SELECT del.id FROM del", nativeQuery = true)
+    List<Long> deleteTasks(Collection<Long> ids, Long authorId, LocalDateTime deletedAt);
+
+    /**
+     * Этот метод физически удаляет пачку задач, помеченных удаленными, к которым не осталось комментариев.
+     * Комментарии удаляются заранее отдельными пачками, поэтому объем работы одной пачки ограничен ее размером.
+     * Задачи, заблокированные другими транзакциями, пропускаются
+     *
+     * @param limit максимальное количество задач в пачке
+     * @return Возвращает количество удаленных задач
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE (id, date_and_time) IN (" +
+            "SELECT t.id, t.date_and_time FROM tasks t WHERE t.deleted_at IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.task_id = t.id) " +
+            "ORDER BY t.deleted_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int purgeDeletedTasks(int limit);
+
+    /**
+     * Этот метод создает недостающие месячные секции таблицы задач от текущего месяца на несколько месяцев вперед
+     *
+     * @param monthsAhead на сколько месяцев вперед создавать секции
+     * @return Возвращает количество созданных секций
+     */
+    @Query(value = "SELECT create_monthly_partitions('tasks', CURRENT_DATE, :monthsAhead)", nativeQuery = true)
+    int createTasksPartitions(int monthsAhead);
+
+    /**
+     * Этот метод считает строки таблицы задач, попавшие в секцию по умолчанию, потому что месячная секция не была создана
+     *
+     * @return Возвращает количество строк в секции по умолчанию
+     */
+    @Query(value = "SELECT count(*) FROM tasks_default", nativeQuery = true)
+    long countTasksInDefaultPartition();
+
+    /**
+     * Этот метод увеличивает версию задачи и обновляет время ее изменения одним запросом.
+     * Используется, когда меняются данные, которые входят в ответ о задаче, но хранятся в других таблицах.
+     * Строка задачи остается заблокированной до конца транзакции, поэтому задачу нельзя удалить или перенести в архив,
+     * пока не сохранены связанные с ней данные
+     *
+     * @param id        уникальный идентификатор задачи
+     * @param dateTime  дата и время создания задачи, по которой выбирается секция
+     * @param updatedAt дата и время изменения
+     * @return Возвращает количество измененных задач
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1, t.updatedAt = :updatedAt " +
+            "WHERE t.id = :id AND t.dateTime = :dateTime AND t.deletedAt IS NULL")
+    int touchTask(Long id, LocalDateTime dateTime, LocalDateTime updatedAt);
+
+    /**
+     * Этот метод ищет проекции задач по списку идентификаторов
+     *
+     * @param ids уникальные идентификаторы задач
+     * @return Возвращает список проекций найденных задач в произвольном порядке
+     */
+    @Query(SELECT_TASK_FULL_PROJECTION + "WHERE t.id IN :ids")
+    List<TaskFullProjection> findTaskFullProjectionsByIds(Collection<Long> ids);
+
+    /**
+     * Этот метод выполняет полнотекстовый поиск задач по заголовку и описанию с использованием GIN-индекса.
+     * Результаты отсортированы по релевантности, а при равной релевантности - от новых задач к старым.
+     * Поисковый запрос разбирается функцией websearch_to_tsquery, поэтому поддерживает кавычки, "or" и "-"
+     *
+     * @param query     поисковый запрос пользователя
+     * @param afterRank релевантность последней задачи на предыдущей странице
+     * @param afterId   уникальный идентификатор последней задачи на предыдущей странице
+     * @param limit     максимальное количество задач
+     * @return Возвращает список идентификаторов найденных задач с их релевантностью
+     */
+    @Query(value = "SELECT t.id AS id, ts_rank(t.search_vector, q) AS rank " +
+            "FROM tasks t CROSS JOIN websearch_to_tsquery('russian', :query) q " +
+            "WHERE t.search_vector @@ q AND t.deleted_at IS NULL AND (ts_rank(t.search_vector, q), t.id) < (CAST(:afterRank AS real), :afterId) " +
+            "ORDER BY rank DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TaskSearchProjection> searchTasks(String query, Float afterRank, Long afterId, int limit);
+
+    /**
+     * Этот метод построчно читает все задачи конкретного автора вместе с автором и исполнителем.
+     * Строки забираются из базы данных порциями по {@value EXPORT_FETCH_SIZE}, поэтому поток нужно
+     * читать внутри транзакции и закрывать после использования
+     *
+     * @param id уникальный идентификатор автора задачи
+     * @return Возвращает поток задач конкретного автора, отсортированных по идентификатору
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT t FROM Task t JOIN FETCH t.author LEFT JOIN FETCH t.executor WHERE t.author.id = :id ORDER BY t.id")
+    Stream<Task> streamTasksByAuthorId(Long id);
+
+    /**
+     * Этот метод построчно читает все задачи конкретного исполнителя вместе с автором и исполнителем.
+     * Строки забираются из базы данных порциями по {@value EXPORT_FETCH_SIZE}, поэтому поток нужно
+     * читать внутри транзакции и закрывать после использования
+     *
+     * @param id уникальный идентификатор исполнителя задачи
+     * @return Возвращает поток задач конкретного исполнителя, отсортированных по идентификатору
      */
-    List<Task> findTasksByExecutorId(Long id, Pageable pageable);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT t FROM Task t JOIN FETCH t.author JOIN FETCH t.executor WHERE t.executor.id = :id ORDER BY t.id")
+    Stream<Task> streamTasksByExecutorId(Long id);
 }
@@ -1,9 +1,14 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Token;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TokenUserProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -15,10 +20,46 @@ import java.util.Optional;
 @Repository
 public interface TokenRepository extends JpaRepository<Token, Long> {
     /**
-     * Этот метод ищет refresh-токен по идентификатору пользователя
+     * Этот метод одним запросом сохраняет хеш refresh-токена пользователя.
+     * Если у пользователя уже есть refresh-токен, он заменяется новым
      *
-     * @param id идентификатор пользователя
-     * @return Возвращает найденный refresh-токен
+     * @param userId           идентификатор пользователя
+     * @param refreshTokenHash хеш refresh-токена
+     * @param dateTimeCreation дата и время создания refresh-токена
+     * @param dateTimeExpires  дата и время истечения срока действия refresh-токена
+     * @return Возвращает количество сохраненных строк
      */
-    Optional<Token> findTokenByUserId(Long id);
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO tokens (refresh_token_hash, date_time_creation, date_time_expires, user_id) " +
+            "VALUES (:refreshTokenHash, :dateTimeCreation, :dateTimeExpires, :userId) " +
+            "ON CONFLICT (user_id) DO UPDATE SET refresh_token_hash = EXCLUDED.refresh_token_hash, " +
+            "date_time_creation = EXCLUDED.date_time_creation, date_time_expires = EXCLUDED.date_time_expires",
+            nativeQuery = true)
+    int upsertToken(Long userId, String refreshTokenHash, LocalDateTime dateTimeCreation, LocalDateTime dateTimeExpires);
+
+    /**
+     * Этот метод ищет владельца действующего refresh-токена по хешу токена
+     *
+     * @param refreshTokenHash хеш refresh-токена
+     * @param now              текущие дата и время
+     * @return Возвращает найденного владельца refresh-токена
+     */
+    @Query("SELECT new com.github.stanislavbukaevsky.taskmanagementsystem.projection.TokenUserProjection(u.id, u.email, u.role) " +
+            "FROM Token t JOIN t.user u WHERE t.refreshTokenHash = :refreshTokenHash AND t.dateTimeExpires > :now")
+    Optional<TokenUserProjection> findTokenUserByRefreshTokenHash(String refreshTokenHash, LocalDateTime now);
+
+    /**
+     * Этот метод удаляет одну пачку refresh-токенов с истекшим сроком действия.
+     * Строки, заблокированные другими транзакциями, пропускаются, поэтому удаление можно одновременно запускать на нескольких узлах
+     *
+     * @param now   текущие дата и время
+     * @param limit максимальное количество удаляемых строк
+     * @return Возвращает количество удаленных строк
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tokens WHERE id IN (" +
+            "SELECT t.id FROM tokens t WHERE t.date_time_expires < :now " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredTokens(LocalDateTime now, int limit);
 }
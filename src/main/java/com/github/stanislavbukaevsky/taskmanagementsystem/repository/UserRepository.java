@@ -2,7 +2,10 @@ package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -29,4 +32,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return Возвращает true, если пользователь уже существует в базе данных или false, если его нет
      */
     Boolean existsUserByEmail(String email);
+
+    /**
+     * Этот метод заменяет зашифрованный пароль пользователя, если он не изменился с момента проверки
+     *
+     * @param id          уникальный идентификатор пользователя
+     * @param oldPassword зашифрованный пароль, который был проверен
+     * @param newPassword перешифрованный пароль
+     * @return Возвращает количество измененных строк: 1 или 0, если пароль уже изменился
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePassword(Long id, String oldPassword, String newPassword);
 }
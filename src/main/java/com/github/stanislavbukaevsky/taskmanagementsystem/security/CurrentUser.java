@@ -0,0 +1,82 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.security;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.cache.UserCache;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.USER_NOT_FOUND_EXCEPTION;
+
+/**
+ * Этот класс предоставляет сервисам текущего пользователя из security context.
+ * Идентификатор и электронная почта берутся из {@link UserSecurity} без обращения к базе данных,
+ * а полная информация о пользователе загружается из кэша пользователей не больше одного раза за запрос
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUser {
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUser.class.getName() + ".user";
+    private final UserCache userCache;
+
+    /**
+     * Этот метод возвращает объект аутентификации текущего пользователя
+     *
+     * @return Возвращает текущего пользователя в виде {@link UserSecurity}
+     * @throws AuthenticationCredentialsNotFoundException исключение, если запрос не аутентифицирован
+     */
+    public UserSecurity getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserSecurity principal) {
+            return principal;
+        }
+        throw new AuthenticationCredentialsNotFoundException(USER_NOT_FOUND_EXCEPTION);
+    }
+
+    /**
+     * Этот метод возвращает уникальный идентификатор текущего пользователя
+     *
+     * @return Возвращает уникальный идентификатор пользователя
+     */
+    public Long getId() {
+        Long id = getPrincipal().getId();
+        return id != null ? id : getUser().getId();
+    }
+
+    /**
+     * Этот метод возвращает электронную почту текущего пользователя
+     *
+     * @return Возвращает электронную почту пользователя
+     */
+    public String getEmail() {
+        return getPrincipal().getEmail();
+    }
+
+    /**
+     * Этот метод возвращает текущего пользователя с полной информацией о нем.
+     * Если пользователь не был загружен при аутентификации, он берется из кэша пользователей
+     * и запоминается до конца запроса
+     *
+     * @return Возвращает текущего пользователя
+     */
+    public User getUser() {
+        UserSecurity principal = getPrincipal();
+        if (principal.getUser() != null) {
+            return principal.getUser();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return userCache.get(principal.getEmail());
+        }
+        User user = (User) attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = userCache.get(principal.getEmail());
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+}
@@ -1,30 +1,44 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.security;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.RequestScope;
 
 import java.util.Collection;
 import java.util.List;
 
 /**
  * Этот класс предоставляет всю необходимую информацию для построения объекта аутентификации.
- * Здесь находятся методы, которые достают данные пользователя из базы данных. <br>
+ * Объект неизменяемый и хранится в security context текущего запроса. Он строится либо по пользователю
+ * из базы данных, либо только по данным из проверенного access токена, и тогда пользователь в нем не задан. <br>
  * Реализует методы интерфейса {@link UserDetails}
  */
 @Getter
-@Setter
-@Component
-@RequestScope
-@RequiredArgsConstructor
 public class UserSecurity implements UserDetails {
-    private User user;
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Role role;
+    private final User user;
+
+    public UserSecurity(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.password = user.getPassword();
+        this.role = user.getRole();
+        this.user = user;
+    }
+
+    public UserSecurity(Long id, String email, Role role) {
+        this.id = id;
+        this.email = email;
+        this.password = null;
+        this.role = role;
+        this.user = null;
+    }
 
     /**
      * Метод для получения email пользователя
@@ -33,7 +47,7 @@ public class UserSecurity implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     /**
@@ -43,7 +57,7 @@ public class UserSecurity implements UserDetails {
      */
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     /**
@@ -53,7 +67,7 @@ public class UserSecurity implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority(role.name()));
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.security;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +11,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.USER_NOT_FOUND_EXCEPTION;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.LOAD_USER_BY_CLAIMS_MESSAGE_LOGGER_SECURITY;
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.LOAD_USER_BY_USERNAME_MESSAGE_LOGGER_SECURITY;
 
 /**
@@ -20,22 +22,33 @@ import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.Logger
 @Component
 @RequiredArgsConstructor
 public class UserSecurityService implements UserDetailsService {
-    private final UserSecurity userSecurity;
     private final UserRepository userRepository;
 
     /**
      * Этот метод ищет пользователя по его уникальной электронной почте
      *
      * @param username электронная почта пользователя
-     * @return Возвращает найденного пользователя, через защищенный сервис {@link UserSecurity}
+     * @return Возвращает найденного пользователя в виде {@link UserSecurity}
      * @throws UsernameNotFoundException исключение, если пользователя с такой электронной почтой не существует
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findUserByEmail(username).orElseThrow(() ->
                 new UsernameNotFoundException(USER_NOT_FOUND_EXCEPTION));
-        userSecurity.setUser(user);
         log.info(LOAD_USER_BY_USERNAME_MESSAGE_LOGGER_SECURITY, username);
-        return userSecurity;
+        return new UserSecurity(user);
+    }
+
+    /**
+     * Этот метод строит пользователя по данным из проверенного access токена, не обращаясь к базе данных
+     *
+     * @param id    уникальный идентификатор пользователя
+     * @param email электронная почта пользователя
+     * @param role  роль пользователя
+     * @return Возвращает пользователя в виде {@link UserSecurity}
+     */
+    public UserDetails loadUserByClaims(Long id, String email, Role role) {
+        log.info(LOAD_USER_BY_CLAIMS_MESSAGE_LOGGER_SECURITY, email);
+        return new UserSecurity(id, email, role);
     }
 }
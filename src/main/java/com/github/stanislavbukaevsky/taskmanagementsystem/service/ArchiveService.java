@@ -0,0 +1,37 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+/**
+ * Сервис-интерфейс для архивации завершенных задач и чтения архива.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ArchiveService {
+    /**
+     * Сигнатура метода для переноса давно завершенных задач и комментариев к ним в архив
+     *
+     * @return Возвращает количество перенесенных в архив задач
+     */
+    int archiveCompletedTasks();
+
+    /**
+     * Сигнатура метода для получения информации об архивной задаче
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает найденную архивную задачу с полной информацией
+     */
+    TaskFullResponseDto getTask(@Positive Long id);
+
+    /**
+     * Сигнатура метода для поиска архивных задач конкретного автора
+     *
+     * @param id   уникальный идентификатор автора задачи
+     * @param page номер страницы
+     * @param size количество задач на странице
+     * @return Возвращает список найденных архивных задач конкретного автора
+     */
+    List<TaskFullResponseDto> getAuthorTasks(@Positive Long id, @Positive int page, @Positive int size);
+}
@@ -6,6 +6,8 @@ import com.github.stanislavbukaevsky.taskmanagementsystem.dto.RegistrationReques
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.RegistrationResponseDto;
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Сервис-интерфейс для регистрации и аутентификации пользователей на платформе.
  * В этом интерфейсе прописана только сигнатура методов без реализации
@@ -15,15 +17,15 @@ public interface AuthService {
      * Сигнатура метода регистрации новых пользователей на платформе
      *
      * @param request класс-DTO для регистрации пользователя на платформе
-     * @return Возвращает DTO с информацией о зарегистрированном пользователе
+     * @return Возвращает DTO с информацией о зарегистрированном пользователе после шифрования пароля
      */
-    RegistrationResponseDto registration(@Valid RegistrationRequestDto request);
+    CompletableFuture<RegistrationResponseDto> registration(@Valid RegistrationRequestDto request);
 
     /**
      * Сигнатура метода аутентификации пользователей на платформе
      *
      * @param request класс-DTO для аутентификации пользователя на платформе
-     * @return Возвращает DTO с информацией об аутентифицированном пользователе на платформе
+     * @return Возвращает DTO с информацией об аутентифицированном пользователе на платформе после проверки пароля
      */
-    AuthenticationResponseDto authentication(@Valid AuthenticationRequestDto request);
+    CompletableFuture<AuthenticationResponseDto> authentication(@Valid AuthenticationRequestDto request);
 }
@@ -1,5 +1,6 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.service;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentPageResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentResponseDto;
 import jakarta.validation.Valid;
@@ -18,4 +19,14 @@ public interface CommentService {
      * @return Возвращает новый, добавленный комментарий с полной информацией
      */
     CommentResponseDto addComment(@Valid CommentRequestDto request, @Positive Long idTask);
+
+    /**
+     * Сигнатура метода для постраничного получения комментариев к задаче по курсору
+     *
+     * @param idTask уникальный идентификатор задачи
+     * @param after  курсор, полученный с предыдущей страницей, или null для первой страницы
+     * @param size   количество комментариев на странице
+     * @return Возвращает страницу комментариев к задаче с курсором следующей страницы
+     */
+    CommentPageResponseDto getTaskComments(@Positive Long idTask, String after, @Positive int size);
 }
@@ -0,0 +1,44 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.ExecutorDashboardResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+/**
+ * Сервис-интерфейс для работы со сводкой задач исполнителей и ее счетчиками.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ExecutorDashboardService {
+    /**
+     * Сигнатура метода для учета задачи в счетчиках ее исполнителя.
+     * Вызывается внутри транзакции, которая изменяет задачу
+     *
+     * @param task задача с актуальными исполнителем, статусом и приоритетом
+     */
+    void incrementCounter(Task task);
+
+    /**
+     * Сигнатура метода для исключения задачи из счетчиков ее исполнителя.
+     * Вызывается внутри транзакции, которая изменяет задачу, до изменения исполнителя, статуса или приоритета
+     *
+     * @param task задача с прежними исполнителем, статусом и приоритетом
+     */
+    void decrementCounter(Task task);
+
+    /**
+     * Сигнатура метода для получения сводки задач всех исполнителей
+     *
+     * @return Возвращает список сводок по исполнителям, у которых есть задачи
+     */
+    List<ExecutorDashboardResponseDto> getExecutorsDashboard();
+
+    /**
+     * Сигнатура метода для получения сводки задач конкретного исполнителя
+     *
+     * @param id уникальный идентификатор исполнителя
+     * @return Возвращает сводку задач исполнителя
+     */
+    ExecutorDashboardResponseDto getExecutorDashboard(@Positive Long id);
+}
@@ -0,0 +1,14 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service;
+
+/**
+ * Сервис-интерфейс для обслуживания месячных секций таблиц задач и комментариев.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface PartitionService {
+    /**
+     * Сигнатура метода для заблаговременного создания секций на следующие месяцы
+     *
+     * @return Возвращает количество созданных секций
+     */
+    int createPartitions();
+}
@@ -0,0 +1,14 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service;
+
+/**
+ * Сервис-интерфейс для физического удаления задач, помеченных удаленными.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface TaskPurgeService {
+    /**
+     * Сигнатура метода для физического удаления помеченных удаленными задач и комментариев к ним
+     *
+     * @return Возвращает количество физически удаленных задач
+     */
+    int purgeDeletedTasks();
+}
@@ -1,12 +1,25 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.service;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkCreateResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkDeleteResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkUpdateResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFilterRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskPageResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskPatchRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.TaskSort;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,6 +28,8 @@ import java.util.List;
  * В этом интерфейсе прописана только сигнатура методов без реализации
  */
 public interface TaskService {
+    int BULK_TASKS_LIMIT = 10000;
+
     /**
      * Сигнатура метода для добавления новых задач на платформу
      *
@@ -25,14 +40,38 @@ public interface TaskService {
      */
     TaskResponseDto addTask(@Valid TaskRequestDto request, Status status, Priority priority);
 
+    /**
+     * Сигнатура метода для массового добавления новых задач на платформу.
+     * Задачи, не прошедшие валидацию, пропускаются, а ошибки по ним возвращаются в ответе
+     *
+     * @param requests список запросов от пользователя, не больше {@value BULK_TASKS_LIMIT}
+     * @param status   статус задач
+     * @param priority приоритет задач
+     * @return Возвращает идентификаторы добавленных задач и ошибки валидации пропущенных задач
+     */
+    TaskBulkCreateResponseDto addTasks(@NotEmpty(message = "Список задач не должен быть пустым!")
+                                       @Size(max = BULK_TASKS_LIMIT, message = "За один запрос можно добавить не больше 10000 задач!")
+                                       List<TaskRequestDto> requests, Status status, Priority priority);
+
     /**
      * Сигнатура метода для изменения информации о задачи на платформе
      *
      * @param request запрос от пользователя
      * @param id      уникальный идентификатор задачи
+     * @param version версия задачи из предыдущего ответа или null
      * @return Возвращает измененную задачу с полной информацией о ней
      */
-    TaskResponseDto updateTask(@Valid TaskRequestDto request, @Positive Long id);
+    TaskResponseDto updateTask(@Valid TaskRequestDto request, @Positive Long id, Long version);
+
+    /**
+     * Сигнатура метода для частичного изменения задачи на платформе в формате JSON Merge Patch
+     *
+     * @param request запрос от пользователя, содержащий только изменяемые поля
+     * @param id      уникальный идентификатор задачи
+     * @param version версия задачи из предыдущего ответа или null
+     * @return Возвращает измененную задачу с полной информацией о ней
+     */
+    TaskResponseDto patchTask(@Valid TaskPatchRequestDto request, @Positive Long id, Long version);
 
     /**
      * Сигнатура метода для получения информации о задачи на платформе
@@ -50,52 +89,187 @@ public interface TaskService {
      */
     String deleteTask(@Positive Long id);
 
+    /**
+     * Сигнатура метода для массового удаления задач с платформы
+     *
+     * @param ids уникальные идентификаторы задач, не больше {@value BULK_TASKS_LIMIT}
+     * @return Возвращает идентификаторы удаленных и неудаленных задач
+     */
+    TaskBulkDeleteResponseDto deleteTasks(@NotEmpty(message = "Список задач не должен быть пустым!")
+                                          @Size(max = BULK_TASKS_LIMIT, message = "За один запрос можно удалить не больше 10000 задач!")
+                                          List<@NotNull @Positive Long> ids);
+
     /**
      * Сигнатура метода для изменения статуса задачи на платформе
      *
-     * @param id     уникальный идентификатор задачи
-     * @param status статус задачи
+     * @param id      уникальный идентификатор задачи
+     * @param status  статус задачи
+     * @param version версия задачи из предыдущего ответа или null
      * @return Возвращает измененную задачу с полной информацией о ней
      */
-    TaskResponseDto updateStatusTask(@Positive Long id, Status status);
+    TaskResponseDto updateStatusTask(@Positive Long id, Status status, Long version);
 
     /**
      * Сигнатура метода для изменения приоритета задачи на платформе
      *
      * @param id       уникальный идентификатор задачи
      * @param priority приоритет задачи
+     * @param version  версия задачи из предыдущего ответа или null
      * @return Возвращает измененную задачу с полной информацией о ней
      */
-    TaskResponseDto updatePriorityTask(@Positive Long id, Priority priority);
+    TaskResponseDto updatePriorityTask(@Positive Long id, Priority priority, Long version);
 
     /**
      * Сигнатура метода для назначения исполнителя задачи на платформе
      *
-     * @param idTask уникальный идентификатор задачи
-     * @param email  электронная почта исполнителя
+     * @param idTask  уникальный идентификатор задачи
+     * @param email   электронная почта исполнителя
+     * @param version версия задачи из предыдущего ответа или null
      * @return Возвращает измененную задачу с полной информацией о ней
      */
-    TaskResponseDto assignPerformerTask(@Positive Long idTask, String email);
+    TaskResponseDto assignPerformerTask(@Positive Long idTask, String email, Long version);
+
+    /**
+     * Сигнатура метода для массового изменения статуса задач на платформе
+     *
+     * @param ids    уникальные идентификаторы задач, не больше {@value BULK_TASKS_LIMIT}
+     * @param status новый статус задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    TaskBulkUpdateResponseDto updateStatusTasks(@NotEmpty(message = "Список задач не должен быть пустым!")
+                                                @Size(max = BULK_TASKS_LIMIT, message = "За один запрос можно изменить не больше 10000 задач!")
+                                                List<@NotNull @Positive Long> ids, Status status);
+
+    /**
+     * Сигнатура метода для массового изменения приоритета задач на платформе
+     *
+     * @param ids      уникальные идентификаторы задач, не больше {@value BULK_TASKS_LIMIT}
+     * @param priority новый приоритет задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    TaskBulkUpdateResponseDto updatePriorityTasks(@NotEmpty(message = "Список задач не должен быть пустым!")
+                                                  @Size(max = BULK_TASKS_LIMIT, message = "За один запрос можно изменить не больше 10000 задач!")
+                                                  List<@NotNull @Positive Long> ids, Priority priority);
+
+    /**
+     * Сигнатура метода для массового назначения исполнителя задач на платформе
+     *
+     * @param ids   уникальные идентификаторы задач, не больше {@value BULK_TASKS_LIMIT}
+     * @param email электронная почта исполнителя
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    TaskBulkUpdateResponseDto assignPerformerTasks(@NotEmpty(message = "Список задач не должен быть пустым!")
+                                                   @Size(max = BULK_TASKS_LIMIT, message = "За один запрос можно изменить не больше 10000 задач!")
+                                                   List<@NotNull @Positive Long> ids, String email);
+
+    /**
+     * Сигнатура метода для получения версии задачи на платформе.
+     * По версии формируются заголовки ETag и Last-Modified без сборки ответа с полной информацией о задаче
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает проекцию версии найденной задачи
+     */
+    TaskVersionProjection getTaskVersion(@Positive Long id);
 
     /**
-     * Сигнатура метода для поиска задач конкретного автора.
+     * Сигнатура метода для поиска версий задач конкретного автора.
      * Также, метод поддерживает пагинацию и сортировку по времени создания задачи
      *
      * @param id   уникальный идентификатор автора задачи
      * @param page номер страницы
      * @param size Количество задач на странице
-     * @return Возвращает список найденных задач конкретного автора
+     * @return Возвращает список версий найденных задач конкретного автора
      */
-    List<TaskFullResponseDto> getAuthorTask(@Positive Long id, @Positive int page, @Positive int size);
+    List<TaskVersionProjection> getAuthorTaskVersions(@Positive Long id, @Positive int page, @Positive int size);
 
     /**
-     * Сигнатура метода для поиска задач конкретного исполнителя.
+     * Сигнатура метода для поиска версий задач конкретного исполнителя.
      * Также, метод поддерживает пагинацию и сортировку по времени изменения задачи
      *
      * @param id   уникальный идентификатор исполнителя задачи
      * @param page номер страницы
      * @param size количество задач на странице
-     * @return Возвращает список найденных задач конкретного исполнителя
+     * @return Возвращает список версий найденных задач конкретного исполнителя
+     */
+    List<TaskVersionProjection> getExecutorTaskVersions(@Positive Long id, @Positive int page, @Positive int size);
+
+    /**
+     * Сигнатура метода для получения полной информации о задачах по списку их версий
+     *
+     * @param versions список версий задач, полученный при поиске
+     * @return Возвращает список задач с полной информацией в порядке списка версий
+     */
+    List<TaskFullResponseDto> getTasks(List<TaskVersionProjection> versions);
+
+    /**
+     * Сигнатура метода для поиска версий задач конкретного автора с пагинацией по курсору.
+     * Задачи отсортированы от новых к старым. Возвращается на одну задачу больше размера страницы,
+     * чтобы узнать, есть ли следующая страница
+     *
+     * @param id    уникальный идентификатор автора задачи
+     * @param after курсор, полученный в предыдущем ответе, или null для первой страницы
+     * @param size  количество задач на странице
+     * @return Возвращает список версий найденных задач конкретного автора
+     */
+    List<TaskVersionProjection> getAuthorTaskVersionsByCursor(@Positive Long id, String after, @Positive int size);
+
+    /**
+     * Сигнатура метода для поиска версий задач конкретного исполнителя с пагинацией по курсору.
+     * Задачи отсортированы от новых к старым. Возвращается на одну задачу больше размера страницы,
+     * чтобы узнать, есть ли следующая страница
+     *
+     * @param id    уникальный идентификатор исполнителя задачи
+     * @param after курсор, полученный в предыдущем ответе, или null для первой страницы
+     * @param size  количество задач на странице
+     * @return Возвращает список версий найденных задач конкретного исполнителя
+     */
+    List<TaskVersionProjection> getExecutorTaskVersionsByCursor(@Positive Long id, String after, @Positive int size);
+
+    /**
+     * Сигнатура метода для получения страницы задач с курсором следующей страницы по списку их версий
+     *
+     * @param versions список версий задач, полученный при поиске по курсору
+     * @param size     количество задач на странице
+     * @return Возвращает страницу задач с полной информацией и курсором следующей страницы
+     */
+    TaskPageResponseDto getTaskPage(List<TaskVersionProjection> versions, @Positive int size);
+
+    /**
+     * Сигнатура метода для фильтрации задач по статусу, приоритету, периоду создания, автору и исполнителю.
+     * Также, метод поддерживает пагинацию и выбор порядка сортировки
+     *
+     * @param filter условия фильтрации задач
+     * @param sort   порядок сортировки задач
+     * @param page   номер страницы
+     * @param size   количество задач на странице
+     * @return Возвращает список найденных задач, пустой, если под условия не подошла ни одна задача
+     */
+    List<TaskFullResponseDto> filterTask(@Valid TaskFilterRequestDto filter, TaskSort sort, @Positive int page, @Positive int size);
+
+    /**
+     * Сигнатура метода для полнотекстового поиска задач по заголовку и описанию.
+     * Задачи отсортированы по релевантности и разбиты на страницы по курсору
+     *
+     * @param query поисковый запрос пользователя
+     * @param after курсор, полученный в предыдущем ответе, или null для первой страницы
+     * @param size  количество задач на странице
+     * @return Возвращает страницу найденных задач с курсором следующей страницы
+     */
+    TaskPageResponseDto searchTask(@NotBlank String query, String after, @Positive int size);
+
+    /**
+     * Сигнатура метода для выгрузки всех задач конкретного автора в формате NDJSON (одна задача в строке)
+     *
+     * @param id уникальный идентификатор автора задачи
+     * @return Возвращает тело ответа, которое записывает задачи в выходной поток по мере чтения из базы данных
+     */
+    StreamingResponseBody exportAuthorTask(@Positive Long id);
+
+    /**
+     * Сигнатура метода для выгрузки всех задач конкретного исполнителя в формате NDJSON (одна задача в строке)
+     *
+     * @param id уникальный идентификатор исполнителя задачи
+     * @return Возвращает тело ответа, которое записывает задачи в выходной поток по мере чтения из базы данных
      */
-    List<TaskFullResponseDto> getExecutorTask(@Positive Long id, @Positive int page, @Positive int size);
+    StreamingResponseBody exportExecutorTask(@Positive Long id);
 }
@@ -0,0 +1,14 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service;
+
+/**
+ * Сервис-интерфейс для удаления refresh-токенов с истекшим сроком действия.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface TokenReaperService {
+    /**
+     * Сигнатура метода для удаления refresh-токенов с истекшим сроком действия
+     *
+     * @return Возвращает количество удаленных refresh-токенов
+     */
+    int deleteExpiredTokens();
+}
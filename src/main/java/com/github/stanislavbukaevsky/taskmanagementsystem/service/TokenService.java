@@ -2,24 +2,24 @@ package com.github.stanislavbukaevsky.taskmanagementsystem.service;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.AccessTokenRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.AccessTokenResponseDto;
-import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Token;
-import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
+
 /**
  * Сервис-интерфейс для всех refresh-токенов, выданных на платформе.
  * В этом интерфейсе прописана только сигнатура методов без реализации
  */
 public interface TokenService {
     /**
-     * Сигнатура метода для добавления нового refresh-токена в базу данных
+     * Сигнатура метода для добавления нового refresh-токена в базу данных или замены старого
      *
-     * @param refreshToken refresh-токен
-     * @param user         сущность пользователя
-     * @param token        сущность токена
-     * @return Возвращает добавленный refresh-токен
+     * @param refreshToken     refresh-токен
+     * @param userId           идентификатор пользователя
+     * @param dateTimeCreation дата и время создания refresh-токена
+     * @param dateTimeExpires  дата и время истечения срока действия refresh-токена
      */
-    Token addToken(String refreshToken, User user, Token token);
+    void addToken(String refreshToken, Long userId, LocalDateTime dateTimeCreation, LocalDateTime dateTimeExpires);
 
     /**
      * Сигнатура метода для выдачи нового access-токена для зарегистрированного пользователя на платформе
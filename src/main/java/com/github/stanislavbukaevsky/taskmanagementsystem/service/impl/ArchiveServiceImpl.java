@@ -0,0 +1,152 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.cache.TaskResponseCache;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.TaskNotFoundException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.UserByIdNotFoundException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.mapper.TaskFullResponseAssembler;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.CommentArchiveRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TaskArchiveRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.UserRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.security.CurrentUser;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.ArchiveService;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.*;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Сервис-класс с бизнес-логикой для архивации завершенных задач и чтения архива.
+ * Задачи, которые завершены и не изменялись заданное количество дней, переносятся в архив вместе с комментариями.
+ * Каждая пачка переносится в отдельной короткой транзакции, а между пачками делается пауза,
+ * чтобы фоновая архивация не мешала запросам пользователей.
+ * Реализует интерфейс {@link ArchiveService}
+ */
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class ArchiveServiceImpl implements ArchiveService {
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final CommentArchiveRepository commentArchiveRepository;
+    private final UserRepository userRepository;
+    private final TaskFullResponseAssembler taskFullResponseAssembler;
+    private final CurrentUser currentUser;
+    private final TaskResponseCache taskResponseCache;
+    private final PlatformTransactionManager transactionManager;
+    @Value("${tasks.archive.completed-days}")
+    private int completedDays;
+    @Value("${tasks.archive.batch-size}")
+    private int batchSize;
+    @Value("${tasks.archive.pause}")
+    private long pause;
+
+    /**
+     * Реализация метода для переноса давно завершенных задач и комментариев к ним в архив.
+     * Запускается по расписанию и работает, пока не перенесет все подходящие задачи
+     *
+     * @return Возвращает количество перенесенных в архив задач
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tasks.archive.delay}")
+    public int archiveCompletedTasks() {
+        long start = System.currentTimeMillis();
+        LocalDateTime archivedAt = LocalDateTime.now();
+        LocalDateTime completedBefore = archivedAt.minusDays(completedDays);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int total = 0;
+        int archived;
+        do {
+            List<Long> ids = transaction.execute(status -> {
+                List<Long> moved = taskArchiveRepository.archiveCompletedTasks(completedBefore, archivedAt, batchSize);
+                moved.forEach(taskResponseCache::evict);
+                return moved;
+            });
+            archived = ids.size();
+            total += archived;
+        } while (archived == batchSize && pausing());
+        if (total > 0) {
+            log.info(ARCHIVE_COMPLETED_TASKS_MESSAGE_LOGGER_SERVICE, total, completedBefore, System.currentTimeMillis() - start);
+        }
+        return total;
+    }
+
+    /**
+     * Реализация метода для получения информации об архивной задаче.
+     * Архивную задачу может просматривать только ее автор
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает найденную архивную задачу с полной информацией
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskFullResponseDto getTask(@Positive Long id) {
+        TaskFullProjection task = taskArchiveRepository.findTaskFullProjectionById(id).orElseThrow(() ->
+                new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
+
+        if (task.email().equals(currentUser.getEmail())) {
+            log.info(GET_ARCHIVE_TASK_MESSAGE_LOGGER_SERVICE, id);
+            return taskFullResponseAssembler.toTaskFullResponses(List.of(task), commentArchiveRepository).get(0);
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
+    }
+
+    /**
+     * Реализация метода для поиска архивных задач конкретного автора.
+     * Также, метод поддерживает пагинацию и сортировку по времени создания задачи
+     *
+     * @param id   уникальный идентификатор автора задачи
+     * @param page номер страницы
+     * @param size количество задач на странице
+     * @return Возвращает список найденных архивных задач конкретного автора
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskFullResponseDto> getAuthorTasks(@Positive Long id, @Positive int page, @Positive int size) {
+        if (!userRepository.existsById(id)) {
+            throw new UserByIdNotFoundException(USER_BY_ID_NOT_FOUND_EXCEPTION);
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, "id");
+        Pageable pageable = PageRequest.of(page - 1, size, sort);
+        List<TaskFullProjection> tasks = taskArchiveRepository.findTaskFullProjectionsByAuthorId(id, pageable);
+        if (tasks.isEmpty()) {
+            throw new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION_2);
+        }
+
+        log.info(GET_ARCHIVE_AUTHOR_TASK_MESSAGE_LOGGER_SERVICE, id, page, size);
+        return taskFullResponseAssembler.toTaskFullResponses(tasks, commentArchiveRepository);
+    }
+
+    /**
+     * Приватный метод для паузы между пачками
+     *
+     * @return Возвращает true, если можно продолжать архивацию, и false, если поток прерван
+     */
+    private boolean pausing() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
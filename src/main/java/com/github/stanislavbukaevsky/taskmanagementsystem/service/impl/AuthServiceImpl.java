@@ -1,23 +1,24 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.cache.UserCache;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.AuthenticationRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.AuthenticationResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.RegistrationRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.RegistrationResponseDto;
-import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Token;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.AuthenticationUsersException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.LoginAlreadyExistsException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.PasswordHashingUnavailableException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.mapper.TokenMapper;
 import com.github.stanislavbukaevsky.taskmanagementsystem.mapper.UserMapper;
-import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TokenRepository;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.UserRepository;
 import com.github.stanislavbukaevsky.taskmanagementsystem.security.UserSecurity;
 import com.github.stanislavbukaevsky.taskmanagementsystem.security.UserSecurityService;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.AuthService;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.TokenService;
 import com.github.stanislavbukaevsky.taskmanagementsystem.token.TokenDetailsService;
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.PasswordHashingExecutor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,8 @@ import org.springframework.validation.annotation.Validated;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.AUTHENTICATION_USERS_MESSAGE_EXCEPTION_SERVICE;
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.REGISTRATION_MESSAGE_EXCEPTION_SERVICE;
@@ -35,6 +38,8 @@ import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.Logger
 
 /**
  * Сервис-класс с бизнес-логикой для регистрации и аутентификации пользователей на платформе.
+ * Пароли шифруются и проверяются в пуле шифрования паролей, а запросы к базе данных после этого
+ * выполняются в общем пуле задач приложения, чтобы не занимать потоки шифрования.
  * Реализует интерфейс {@link AuthService}
  */
 @Slf4j
@@ -42,53 +47,86 @@ import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.Logger
 @Validated
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Executor applicationTaskExecutor;
     private final PasswordEncoder passwordEncoder;
     private final UserSecurityService userSecurityService;
+    private final UserCache userCache;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final TokenDetailsService tokenDetailsService;
-    private final TokenRepository tokenRepository;
     private final TokenService tokenService;
     private final TokenMapper tokenMapper;
 
     /**
-     * Реализация метода регистрации новых пользователей на платформе
+     * Реализация метода регистрации новых пользователей на платформе.
+     * Пароль шифруется в отдельном пуле, а пользователь сохраняется в общем пуле задач после окончания шифрования
      *
      * @param request класс-DTO для регистрации пользователя на платформе
-     * @return Возвращает DTO с информацией о зарегистрированном пользователе
+     * @return Возвращает DTO с информацией о зарегистрированном пользователе после шифрования пароля
      */
     @Override
-    public RegistrationResponseDto registration(@Valid RegistrationRequestDto request) {
+    public CompletableFuture<RegistrationResponseDto> registration(@Valid RegistrationRequestDto request) {
         Boolean checkUser = userRepository.existsUserByEmail(request.getEmail());
 
         if (checkUser) {
             throw new LoginAlreadyExistsException(REGISTRATION_MESSAGE_EXCEPTION_SERVICE);
-        } else {
+        }
+        return passwordHashingExecutor.encode(request.getPassword()).thenApplyAsync(password -> {
             User user = userMapper.toEntityUser(request);
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user.setPassword(password);
             user.setRole(Role.USER);
             User result = userRepository.save(user);
-            log.info(REGISTRATION_MESSAGE_LOGGER_SERVICE, result);
+            log.info(REGISTRATION_MESSAGE_LOGGER_SERVICE, result.getEmail());
             return userMapper.toRegistrationResponseDto(result);
-        }
+        }, applicationTaskExecutor);
     }
 
     /**
-     * Реализация метода аутентификации пользователей на платформе
+     * Реализация метода аутентификации пользователей на платформе.
+     * Пароль проверяется в отдельном пуле, а токены выдаются в общем пуле задач после окончания проверки.
+     * Если пароль зашифрован в старом формате или устаревшими параметрами, он перешифровывается отдельной задачей
      *
      * @param request класс-DTO для аутентификации пользователя на платформе
-     * @return Возвращает DTO с информацией об аутентифицированном пользователе на платформе
+     * @return Возвращает DTO с информацией об аутентифицированном пользователе на платформе после проверки пароля
      */
     @Override
-    public AuthenticationResponseDto authentication(@Valid AuthenticationRequestDto request) {
+    public CompletableFuture<AuthenticationResponseDto> authentication(@Valid AuthenticationRequestDto request) {
         UserSecurity userSecurity = (UserSecurity) userSecurityService.loadUserByUsername(request.getEmail());
 
-        if (passwordEncoder.matches(request.getPassword(), userSecurity.getPassword())) {
-            log.info(AUTHENTICATION_MESSAGE_LOGGER_SERVICE, request.getEmail());
-            return getGeneratingAuthenticationResponse(userSecurity);
-        } else {
+        return passwordHashingExecutor.matches(request.getPassword(), userSecurity.getPassword()).thenApplyAsync(matches -> {
+            if (matches) {
+                log.info(AUTHENTICATION_MESSAGE_LOGGER_SERVICE, request.getEmail());
+                upgradingPassword(userSecurity, request.getPassword());
+                return getGeneratingAuthenticationResponse(userSecurity);
+            }
             log.error(AUTHENTICATION_MESSAGE_ERROR_LOGGER_SERVICE);
             throw new AuthenticationUsersException(AUTHENTICATION_USERS_MESSAGE_EXCEPTION_SERVICE);
+        }, applicationTaskExecutor);
+    }
+
+    /**
+     * Приватный метод для перешифрования пароля пользователя после успешной аутентификации.
+     * Пароль шифруется отдельной задачей в пуле шифрования паролей, а сохраняется в общем пуле задач.
+     * Ответ пользователю не ждет перешифрования. Если очередь шифрования переполнена, перешифрование
+     * откладывается до следующей аутентификации
+     *
+     * @param userSecurity объект аутентификации пользователя с проверенным паролем
+     * @param rawPassword  пароль пользователя
+     */
+    private void upgradingPassword(UserSecurity userSecurity, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(userSecurity.getPassword())) {
+            return;
+        }
+        try {
+            passwordHashingExecutor.encode(rawPassword).thenAcceptAsync(password -> {
+                if (userRepository.updatePassword(userSecurity.getId(), userSecurity.getPassword(), password) > 0) {
+                    userCache.evict(userSecurity.getEmail());
+                    log.info(UPGRADE_PASSWORD_MESSAGE_LOGGER_SERVICE, userSecurity.getEmail());
+                }
+            }, applicationTaskExecutor);
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn(UPGRADE_PASSWORD_POSTPONED_MESSAGE_LOGGER_SERVICE, userSecurity.getEmail());
         }
     }
 
@@ -99,7 +137,7 @@ public class AuthServiceImpl implements AuthService {
      * @return Возвращает сгенерированный ответ с личной информацией о пользователе через DTO-класс
      */
     private AuthenticationResponseDto getGeneratingAuthenticationResponse(UserSecurity userSecurity) {
-        final Long id = userSecurity.getUser().getId();
+        final Long id = userSecurity.getId();
         final String firstName = userSecurity.getUser().getFirstName();
         final String lastName = userSecurity.getUser().getLastName();
         final String email = userSecurity.getUser().getEmail();
@@ -113,14 +151,7 @@ public class AuthServiceImpl implements AuthService {
         final LocalDateTime dateTimeExpiresRefresh = LocalDateTime.ofInstant(
                         tokenDetailsService.getRefreshExpiration().toInstant(), ZoneId.systemDefault())
                 .truncatedTo(ChronoUnit.MINUTES);
-        Token token = tokenRepository.findTokenByUserId(id).orElseGet(() ->
-                tokenService.addToken(refreshToken, userSecurity.getUser(), new Token()));
-        if (token.getUser().getId().equals(id)) {
-            token.setRefreshToken(refreshToken);
-            token.setDateTimeCreation(dateTimeCreation);
-            token.setDateTimeExpires(dateTimeExpiresRefresh);
-            tokenRepository.save(token);
-        }
+        tokenService.addToken(refreshToken, id, dateTimeCreation, dateTimeExpiresRefresh);
         log.info(GET_GENERATING_AUTHENTICATION_RESPONSE_MESSAGE_LOGGER_SERVICE);
         return tokenMapper.toAuthenticationResponse(
                 id,
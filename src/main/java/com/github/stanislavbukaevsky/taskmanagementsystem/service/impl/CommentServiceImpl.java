@@ -1,5 +1,7 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.cache.TaskResponseCache;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentPageResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
@@ -7,22 +9,27 @@ import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.TaskNotFoundException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.mapper.CommentMapper;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.CommentRepository;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TaskRepository;
-import com.github.stanislavbukaevsky.taskmanagementsystem.security.UserSecurity;
+import com.github.stanislavbukaevsky.taskmanagementsystem.security.CurrentUser;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.CommentService;
-import com.github.stanislavbukaevsky.taskmanagementsystem.service.UserService;
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.CursorEncoder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.TASK_NOT_FOUND_EXCEPTION;
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.ADD_COMMENT_MESSAGE_LOGGER_SERVICE;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.GET_TASK_COMMENTS_MESSAGE_LOGGER_SERVICE;
 
 /**
  * Сервис-класс с бизнес-логикой для работы с методами всех комментариев к задачам опубликованными на платформе.
@@ -36,27 +43,39 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final TaskRepository taskRepository;
-    private final UserSecurity userSecurity;
-    private final UserService userService;
+    private final CurrentUser currentUser;
+    private final CursorEncoder cursorEncoder;
+    private final TaskResponseCache taskResponseCache;
 
     /**
-     * Реализация метода для добавления новых комментариев к задачам на платформу
+     * Реализация метода для добавления новых комментариев к задачам на платформу.
+     * Комментарии входят в ответ о задаче, поэтому вместе с комментарием увеличивается версия задачи.
+     * Версия увеличивается до сохранения комментария: это блокирует строку задачи до конца транзакции,
+     * и задачу нельзя удалить или перенести в архив, пока к ней добавляется комментарий.
+     * Комментарий не может быть старше задачи, на этом основан отбор секций при чтении комментариев
      *
      * @param request запрос от пользователя
      * @param idTask  уникальный идентификатор задачи
      * @return Возвращает новый, добавленный комментарий с полной информацией
      */
     @Override
+    @Transactional
     public CommentResponseDto addComment(@Valid CommentRequestDto request, @Positive Long idTask) {
-        LocalDateTime dateTime = LocalDateTime.now();
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
+        User user = currentUser.getUser();
         Task task = taskRepository.findById(idTask).orElseThrow(() ->
                 new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dateTime = now.isBefore(task.getDateTime()) ? task.getDateTime() : now;
+        if (taskRepository.touchTask(idTask, task.getDateTime(), dateTime) == 0) {
+            throw new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION);
+        }
         Comment comment = commentMapper.toEntityComment(request);
         comment.setDateTime(dateTime);
         comment.setTask(task);
+        comment.setTaskDateTime(task.getDateTime());
         comment.setUser(user);
         Comment result = commentRepository.save(comment);
+        taskResponseCache.evict(idTask);
 
         CommentResponseDto response = commentMapper.toCommentResponse(result);
         response.setHeadingTask(task.getHeading());
@@ -70,4 +89,30 @@ public class CommentServiceImpl implements CommentService {
         log.info(ADD_COMMENT_MESSAGE_LOGGER_SERVICE, request, idTask);
         return response;
     }
+
+    /**
+     * Реализация метода для постраничного получения комментариев к задаче по курсору.
+     * Из базы данных запрашивается на один комментарий больше размера страницы, чтобы узнать, есть ли следующая страница
+     *
+     * @param idTask уникальный идентификатор задачи
+     * @param after  курсор, полученный с предыдущей страницей, или null для первой страницы
+     * @param size   количество комментариев на странице
+     * @return Возвращает страницу комментариев к задаче с курсором следующей страницы
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageResponseDto getTaskComments(@Positive Long idTask, String after, @Positive int size) {
+        LocalDateTime taskDateTime = taskRepository.findTaskDateTimeById(idTask).orElseThrow(() ->
+                new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
+        List<CommentProjection> comments = commentRepository.findCommentProjectionsByTaskIdAfter(
+                idTask, taskDateTime, cursorEncoder.decodeOrMax(after), Limit.of(size + 1));
+        boolean hasNext = comments.size() > size;
+        List<CommentProjection> page = hasNext ? comments.subList(0, size) : comments;
+
+        CommentPageResponseDto response = new CommentPageResponseDto();
+        response.setComments(page.stream().map(commentMapper::toCommentShortResponse).toList());
+        response.setNextCursor(hasNext ? cursorEncoder.encode(page.get(page.size() - 1).id()) : null);
+        log.info(GET_TASK_COMMENTS_MESSAGE_LOGGER_SERVICE, idTask, after, size);
+        return response;
+    }
 }
@@ -0,0 +1,162 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.ExecutorDashboardResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.UserByIdNotFoundException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.ExecutorTaskCountProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.ExecutorTaskCounterRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.UserRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.ExecutorDashboardService;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.USER_BY_ID_NOT_FOUND_EXCEPTION;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Сервис-класс с бизнес-логикой для работы со сводкой задач исполнителей.
+ * Сводка читается из таблицы счетчиков, поэтому ее стоимость зависит от количества исполнителей, а не задач.
+ * Реализует интерфейс {@link ExecutorDashboardService}
+ */
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class ExecutorDashboardServiceImpl implements ExecutorDashboardService {
+    private final ExecutorTaskCounterRepository executorTaskCounterRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Реализация метода для учета задачи в счетчиках ее исполнителя.
+     * Задачи без исполнителя не учитываются
+     *
+     * @param task задача с актуальными исполнителем, статусом и приоритетом
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void incrementCounter(Task task) {
+        changingCounter(task, 1);
+    }
+
+    /**
+     * Реализация метода для исключения задачи из счетчиков ее исполнителя.
+     * Задачи без исполнителя не учитываются
+     *
+     * @param task задача с прежними исполнителем, статусом и приоритетом
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decrementCounter(Task task) {
+        changingCounter(task, -1);
+    }
+
+    /**
+     * Реализация метода для получения сводки задач всех исполнителей
+     *
+     * @return Возвращает список сводок по исполнителям, у которых есть задачи
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExecutorDashboardResponseDto> getExecutorsDashboard() {
+        Map<Long, ExecutorDashboardResponseDto> dashboards = new LinkedHashMap<>();
+        for (ExecutorTaskCountProjection count : executorTaskCounterRepository.findExecutorTaskCounts()) {
+            ExecutorDashboardResponseDto dashboard = dashboards.computeIfAbsent(count.executorId(), id ->
+                    generatingDashboard(count.executorId(), count.firstName(), count.lastName(), count.email()));
+            addingCount(dashboard, count);
+        }
+        log.info(GET_EXECUTORS_DASHBOARD_MESSAGE_LOGGER_SERVICE);
+        return new ArrayList<>(dashboards.values());
+    }
+
+    /**
+     * Реализация метода для получения сводки задач конкретного исполнителя
+     *
+     * @param id уникальный идентификатор исполнителя
+     * @return Возвращает сводку задач исполнителя, с нулевыми значениями, если задач у него нет
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExecutorDashboardResponseDto getExecutorDashboard(@Positive Long id) {
+        List<ExecutorTaskCountProjection> counts = executorTaskCounterRepository.findExecutorTaskCountsByExecutorId(id);
+        ExecutorDashboardResponseDto dashboard;
+        if (counts.isEmpty()) {
+            User user = userRepository.findById(id).orElseThrow(() ->
+                    new UserByIdNotFoundException(USER_BY_ID_NOT_FOUND_EXCEPTION));
+            dashboard = generatingDashboard(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+        } else {
+            ExecutorTaskCountProjection first = counts.get(0);
+            dashboard = generatingDashboard(first.executorId(), first.firstName(), first.lastName(), first.email());
+            counts.forEach(count -> addingCount(dashboard, count));
+        }
+        log.info(GET_EXECUTOR_DASHBOARD_MESSAGE_LOGGER_SERVICE, id);
+        return dashboard;
+    }
+
+    /**
+     * Приватный метод для изменения счетчика задач исполнителя
+     *
+     * @param task  задача
+     * @param delta на сколько изменить счетчик
+     */
+    private void changingCounter(Task task, long delta) {
+        if (task.getExecutor() == null) {
+            return;
+        }
+        executorTaskCounterRepository.addToCounter(task.getExecutor().getId(),
+                task.getStatus().name(), task.getPriority().name(), delta);
+    }
+
+    /**
+     * Приватный метод для генерации пустой сводки задач исполнителя со всеми статусами и приоритетами
+     *
+     * @param executorId уникальный идентификатор исполнителя
+     * @param firstName  имя исполнителя
+     * @param lastName   фамилия исполнителя
+     * @param email      электронная почта исполнителя
+     * @return Возвращает сводку задач исполнителя с нулевыми значениями
+     */
+    private ExecutorDashboardResponseDto generatingDashboard(Long executorId, String firstName, String lastName, String email) {
+        ExecutorDashboardResponseDto dashboard = new ExecutorDashboardResponseDto();
+        dashboard.setExecutorId(executorId);
+        dashboard.setFirstName(firstName);
+        dashboard.setLastName(lastName);
+        dashboard.setEmail(email);
+        dashboard.setTotal(0L);
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        for (Status status : Status.values()) {
+            statuses.put(status.getDescription(), 0L);
+        }
+        Map<String, Long> priorities = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            priorities.put(priority.getDescription(), 0L);
+        }
+        dashboard.setStatuses(statuses);
+        dashboard.setPriorities(priorities);
+        return dashboard;
+    }
+
+    /**
+     * Приватный метод для добавления счетчика в сводку задач исполнителя
+     *
+     * @param dashboard сводка задач исполнителя
+     * @param count     счетчик задач исполнителя
+     */
+    private void addingCount(ExecutorDashboardResponseDto dashboard, ExecutorTaskCountProjection count) {
+        dashboard.setTotal(dashboard.getTotal() + count.count());
+        dashboard.getStatuses().merge(count.status().getDescription(), count.count(), Long::sum);
+        dashboard.getPriorities().merge(count.priority().getDescription(), count.count(), Long::sum);
+    }
+}
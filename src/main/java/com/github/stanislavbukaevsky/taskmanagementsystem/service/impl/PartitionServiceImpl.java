@@ -0,0 +1,76 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.CommentRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TaskRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.PartitionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.CREATE_PARTITIONS_MESSAGE_LOGGER_SERVICE;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.DEFAULT_PARTITIONS_NOT_EMPTY_MESSAGE_LOGGER_SERVICE;
+
+/**
+ * Сервис-класс с бизнес-логикой для обслуживания месячных секций таблиц задач и комментариев.
+ * Секции создаются заранее, чтобы новые строки никогда не оставались без секции,
+ * а старые месяцы можно было отсоединить без перестроения всей таблицы.
+ * Если секция все же не создана, строки попадают в секцию по умолчанию. Их количество пишется в лог с уровнем ERROR
+ * и публикуется через /actuator/metrics/partitions.default.rows с тегом table. <br>
+ * Реализует интерфейс {@link PartitionService}
+ */
+@Slf4j
+@Service
+public class PartitionServiceImpl implements PartitionService {
+    private static final String DEFAULT_ROWS_METRIC = "partitions.default.rows";
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final int monthsAhead;
+    private final AtomicLong tasksDefaultRows = new AtomicLong();
+    private final AtomicLong commentsDefaultRows = new AtomicLong();
+
+    public PartitionServiceImpl(TaskRepository taskRepository,
+                                CommentRepository commentRepository,
+                                @Value("${tasks.partition.months-ahead}") int monthsAhead,
+                                MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.monthsAhead = monthsAhead;
+        Gauge.builder(DEFAULT_ROWS_METRIC, tasksDefaultRows, AtomicLong::get)
+                .description("The number of rows stored in the default partition")
+                .tag("table", "tasks")
+                .register(meterRegistry);
+        Gauge.builder(DEFAULT_ROWS_METRIC, commentsDefaultRows, AtomicLong::get)
+                .description("The number of rows stored in the default partition")
+                .tag("table", "comments")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Реализация метода для заблаговременного создания секций на следующие месяцы.
+     * Запускается при старте приложения и затем по расписанию, уже существующие секции не пересоздаются.
+     * Месяц, строки которого уже лежат в секции по умолчанию, пропускается, а о непустых секциях по умолчанию
+     * сообщается в лог
+     *
+     * @return Возвращает количество созданных секций
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${tasks.partition.delay}")
+    public int createPartitions() {
+        int tasks = taskRepository.createTasksPartitions(monthsAhead);
+        int comments = commentRepository.createCommentsPartitions(monthsAhead);
+        log.info(CREATE_PARTITIONS_MESSAGE_LOGGER_SERVICE, tasks, comments);
+        tasksDefaultRows.set(taskRepository.countTasksInDefaultPartition());
+        commentsDefaultRows.set(commentRepository.countCommentsInDefaultPartition());
+        if (tasksDefaultRows.get() > 0 || commentsDefaultRows.get() > 0) {
+            log.error(DEFAULT_PARTITIONS_NOT_EMPTY_MESSAGE_LOGGER_SERVICE, tasksDefaultRows.get(), commentsDefaultRows.get());
+        }
+        return tasks + comments;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.CommentRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TaskRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.TaskPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.PURGE_DELETED_TASKS_MESSAGE_LOGGER_SERVICE;
+
+/**
+ * Сервис-класс с бизнес-логикой для физического удаления задач, помеченных удаленными.
+ * Сначала пачками удаляются комментарии к таким задачам, затем задачи, к которым не осталось комментариев,
+ * поэтому объем работы пачки не зависит от количества комментариев. Каждая пачка удаляется в отдельной короткой транзакции,
+ * а между пачками делается пауза, чтобы фоновое удаление не мешало запросам пользователей.
+ * Реализует интерфейс {@link TaskPurgeService}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskPurgeServiceImpl implements TaskPurgeService {
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final PlatformTransactionManager transactionManager;
+    @Value("${tasks.purge.batch-size}")
+    private int batchSize;
+    @Value("${tasks.purge.pause}")
+    private long pause;
+
+    /**
+     * Реализация метода для физического удаления помеченных удаленными задач и комментариев к ним.
+     * Запускается по расписанию и работает, пока не удалит все помеченные задачи
+     *
+     * @return Возвращает количество физически удаленных задач
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tasks.purge.delay}")
+    public int purgeDeletedTasks() {
+        long start = System.currentTimeMillis();
+        int comments = purgingInBatches(() -> commentRepository.purgeDeletedTaskComments(batchSize));
+        int tasks = purgingInBatches(() -> taskRepository.purgeDeletedTasks(batchSize));
+        if (tasks > 0 || comments > 0) {
+            log.info(PURGE_DELETED_TASKS_MESSAGE_LOGGER_SERVICE, tasks, comments, System.currentTimeMillis() - start);
+        }
+        return tasks;
+    }
+
+    /**
+     * Приватный метод для удаления строк пачками, пока очередная пачка не окажется неполной
+     *
+     * @param batch удаление одной пачки, возвращающее количество удаленных строк
+     * @return Возвращает общее количество удаленных строк
+     */
+    private int purgingInBatches(IntSupplier batch) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transaction.execute(status -> batch.getAsInt());
+            total += deleted;
+        } while (deleted == batchSize && pausing());
+        return total;
+    }
+
+    /**
+     * Приватный метод для паузы между пачками
+     *
+     * @return Возвращает true, если можно продолжать удаление, и false, если поток прерван
+     */
+    private boolean pausing() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
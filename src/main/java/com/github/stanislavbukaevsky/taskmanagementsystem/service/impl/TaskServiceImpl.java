@@ -1,37 +1,77 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.cache.TaskResponseCache;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkCreateResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkDeleteResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkErrorDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskBulkUpdateResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFilterRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFullResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskPageResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskPatchRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskResponseDto;
-import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.User;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.TaskSort;
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.TaskConflictException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.TaskNotFoundException;
 import com.github.stanislavbukaevsky.taskmanagementsystem.exception.UserByIdNotFoundException;
+import com.github.stanislavbukaevsky.taskmanagementsystem.mapper.TaskFullResponseAssembler;
 import com.github.stanislavbukaevsky.taskmanagementsystem.mapper.TaskMapper;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskPatchProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskSearchProjection;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.CommentRepository;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TaskRepository;
 import com.github.stanislavbukaevsky.taskmanagementsystem.repository.UserRepository;
-import com.github.stanislavbukaevsky.taskmanagementsystem.security.UserSecurity;
+import com.github.stanislavbukaevsky.taskmanagementsystem.security.CurrentUser;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.ExecutorDashboardService;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.TaskService;
 import com.github.stanislavbukaevsky.taskmanagementsystem.service.UserService;
+import com.github.stanislavbukaevsky.taskmanagementsystem.specification.TaskSpecification;
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.CursorEncoder;
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.RankedCursor;
+import com.github.stanislavbukaevsky.taskmanagementsystem.util.Violation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.*;
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.*;
@@ -45,12 +85,22 @@ import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.Logger
 @Validated
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
+    private static final int BULK_FLUSH_SIZE = 500;
+    private static final String EMPTY_TASK_REQUEST_MESSAGE = "Задача не должна быть пустой!";
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskFullResponseAssembler taskFullResponseAssembler;
     private final UserService userService;
-    private final UserSecurity userSecurity;
+    private final CurrentUser currentUser;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final CursorEncoder cursorEncoder;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorDashboardService executorDashboardService;
+    private final TaskResponseCache taskResponseCache;
+    private final Validator validator;
 
     /**
      * Реализация метода для добавления новых задач на платформу
@@ -61,8 +111,9 @@ public class TaskServiceImpl implements TaskService {
      * @return Возвращает новую, добавленную задачу
      */
     @Override
+    @Transactional
     public TaskResponseDto addTask(@Valid TaskRequestDto request, Status status, Priority priority) {
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
+        User user = currentUser.getUser();
         LocalDateTime dateTime = LocalDateTime.now();
 
         Task task = taskMapper.toEntityTask(request);
@@ -71,66 +122,152 @@ public class TaskServiceImpl implements TaskService {
         task.setPriority(priority);
         task.setAuthor(user);
         Task result = taskRepository.save(task);
+        executorDashboardService.incrementCounter(result);
 
         log.info(ADD_TASK_MESSAGE_LOGGER_SERVICE, request);
         return generatingTaskResponse(result, user);
     }
 
     /**
-     * Реализация метода для изменения информации о задачи на платформе
+     * Реализация метода для массового добавления новых задач на платформу.
+     * Идентификаторы задач выдаются блоками из последовательности, поэтому Hibernate отправляет вставки
+     * пакетами, а драйвер базы данных объединяет каждый пакет в один многострочный INSERT.
+     * Контекст постоянства очищается каждые {@value BULK_FLUSH_SIZE} задач, чтобы расход памяти не зависел от размера запроса
+     *
+     * @param requests список запросов от пользователя
+     * @param status   статус задач
+     * @param priority приоритет задач
+     * @return Возвращает идентификаторы добавленных задач и ошибки валидации пропущенных задач
+     */
+    @Override
+    @Transactional
+    public TaskBulkCreateResponseDto addTasks(List<TaskRequestDto> requests, Status status, Priority priority) {
+        User author = entityManager.getReference(User.class, currentUser.getId());
+        LocalDateTime dateTime = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>();
+        List<TaskBulkErrorDto> errors = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            TaskRequestDto request = requests.get(index);
+            List<Violation> violations = validatingTaskRequest(request, dateTime);
+            if (!violations.isEmpty()) {
+                errors.add(new TaskBulkErrorDto(index, violations));
+                continue;
+            }
+
+            Task task = taskMapper.toEntityTask(request);
+            task.setDateTime(dateTime);
+            task.setStatus(status);
+            task.setPriority(priority);
+            task.setAuthor(author);
+            entityManager.persist(task);
+            ids.add(task.getId());
+            if (ids.size() % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        TaskBulkCreateResponseDto response = new TaskBulkCreateResponseDto();
+        response.setIds(ids);
+        response.setErrors(errors);
+        log.info(ADD_TASKS_MESSAGE_LOGGER_SERVICE, ids.size(), errors.size());
+        return response;
+    }
+
+    /**
+     * Реализация метода для изменения информации о задачи на платформе.
+     * Задача изменяется одним запросом при условии, что ее версия не изменилась после чтения
      *
      * @param request запрос от пользователя
      * @param id      уникальный идентификатор задачи
+     * @param version версия задачи из предыдущего ответа или null, чтобы сравнивать с только что прочитанной версией
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @Override
-    public TaskResponseDto updateTask(@Valid TaskRequestDto request, @Positive Long id) {
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
+    @Transactional
+    public TaskResponseDto updateTask(@Valid TaskRequestDto request, @Positive Long id, Long version) {
+        User user = currentUser.getUser();
         Task task = findTaskById(id);
 
-        if (task.getAuthor().getEmail().equals(userSecurity.getUsername())) {
+        if (task.getAuthor().getEmail().equals(currentUser.getEmail())) {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            checkUpdated(taskRepository.updateTaskContent(id, task.getDateTime(), expectedVersion(task, version),
+                    request.getHeading(), request.getDescription(), updatedAt));
             task.setHeading(request.getHeading());
             task.setDescription(request.getDescription());
-            Task result = taskRepository.save(task);
+            incrementVersion(task, updatedAt);
+            taskResponseCache.evict(id);
             log.info(UPDATE_TASK_MESSAGE_LOGGER_SERVICE, request, id);
-            return generatingTaskResponse(result, user);
+            return generatingTaskResponse(task, user);
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
     }
 
     /**
-     * Реализация метода для получения информации о задачи на платформе
+     * Реализация метода для частичного изменения задачи на платформе в формате JSON Merge Patch.
+     * Переданные поля, проверка автора и версии задачи и перенос счетчиков исполнителей выполняются
+     * одним запросом, который сразу возвращает новое состояние задачи. Если задача не изменилась,
+     * причина выясняется дополнительным запросом
+     *
+     * @param request запрос от пользователя, содержащий только изменяемые поля
+     * @param id      уникальный идентификатор задачи
+     * @param version версия задачи из предыдущего ответа или null
+     * @return Возвращает измененную задачу с полной информацией о ней
+     */
+    @Override
+    @Transactional
+    public TaskResponseDto patchTask(@Valid TaskPatchRequestDto request, @Positive Long id, Long version) {
+        User user = currentUser.getUser();
+        Optional<String> executor = request.getExecutor();
+        String executorEmail = executor == null ? "" : executor.orElse("");
+        TaskPatchProjection task = taskRepository.patchTask(id, user.getId(), version == null ? -1L : version,
+                request.getHeading() != null, Objects.requireNonNullElse(request.getHeading(), ""),
+                request.getDescription() != null, Objects.requireNonNullElse(request.getDescription(), ""),
+                request.getPriority() != null, request.getPriority() == null ? "" : request.getPriority().name(),
+                executor != null, executorEmail,
+                LocalDateTime.now()).orElseThrow(() -> patchTaskFailure(id, user, version, executorEmail));
+
+        taskResponseCache.evict(id);
+        log.info(PATCH_TASK_MESSAGE_LOGGER_SERVICE, request, id);
+        return taskMapper.toTaskResponse(task);
+    }
+
+    /**
+     * Реализация метода для получения информации о задачи на платформе.
+     * Собранный ответ берется из кэша, а права доступа проверяются при каждом запросе
      *
      * @param id уникальный идентификатор задачи
      * @return Возвращает найденную задачу с полной информацией
      */
     @Override
     public TaskFullResponseDto getTask(@Positive Long id) {
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
-        Task task = findTaskById(id);
-        List<Comment> comments = task.getComments();
+        TaskFullResponseDto task = taskResponseCache.get(id, () -> loadingTaskFullResponse(id));
 
-        if (task.getAuthor().getEmail().equals(userSecurity.getUsername())) {
+        if (task.getEmail().equals(currentUser.getEmail())) {
             log.info(GET_TASK_MESSAGE_LOGGER_SERVICE, id);
-            return generatingTaskFullResponse(task, user, comments);
+            return task;
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
     }
 
     /**
-     * Реализация метода для удаления задачи с платформы
+     * Реализация метода для удаления задачи с платформы.
+     * Задача помечается удаленной при условии, что ее версия не изменилась после чтения,
+     * а физически задача и комментарии к ней удаляются в фоне
      *
      * @param id уникальный идентификатор задачи
      * @return Возвращает информационную строку об успешности операции
      */
     @Override
+    @Transactional
     public String deleteTask(@Positive Long id) {
         Task task = findTaskById(id);
-        List<Comment> comments = task.getComments();
 
-        if (task.getAuthor().getEmail().equals(userSecurity.getUsername())) {
-            comments.stream().forEach(comment -> commentRepository.deleteById(comment.getId()));
-            taskRepository.delete(task);
+        if (task.getAuthor().getEmail().equals(currentUser.getEmail())) {
+            executorDashboardService.decrementCounter(task);
+            checkUpdated(taskRepository.softDeleteTask(id, task.getDateTime(), task.getVersion(), LocalDateTime.now()));
+            taskResponseCache.evict(id);
             log.info(DELETE_TASK_MESSAGE_LOGGER_SERVICE);
             return "Задача успешно удалена!";
         }
@@ -138,128 +275,494 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Реализация метода для изменения статуса задачи на платформе
+     * Реализация метода для массового удаления задач с платформы.
+     * Все задачи помечаются удаленными одним запросом, который сам проверяет, что текущий пользователь - автор задачи,
+     * а физически задачи и комментарии к ним удаляются в фоне
      *
-     * @param id     уникальный идентификатор задачи
-     * @param status статус задачи
+     * @param ids уникальные идентификаторы задач
+     * @return Возвращает идентификаторы удаленных и неудаленных задач
+     */
+    @Override
+    @Transactional
+    public TaskBulkDeleteResponseDto deleteTasks(List<Long> ids) {
+        List<Long> deleted = taskRepository.deleteTasks(ids, currentUser.getId(), LocalDateTime.now());
+        Map<Boolean, List<Long>> partition = partitioningTaskIds(ids, deleted);
+        log.info(DELETE_TASKS_MESSAGE_LOGGER_SERVICE, deleted.size(), ids.size());
+        return new TaskBulkDeleteResponseDto(partition.get(true), partition.get(false));
+    }
+
+    /**
+     * Реализация метода для изменения статуса задачи на платформе.
+     * Статус изменяется одним запросом при условии, что версия задачи не изменилась после чтения,
+     * поэтому счетчики задач исполнителя изменяются относительно актуального состояния задачи
+     *
+     * @param id      уникальный идентификатор задачи
+     * @param status  статус задачи
+     * @param version версия задачи из предыдущего ответа или null, чтобы сравнивать с только что прочитанной версией
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @Override
-    public TaskResponseDto updateStatusTask(@Positive Long id, Status status) {
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
+    @Transactional
+    public TaskResponseDto updateStatusTask(@Positive Long id, Status status, Long version) {
+        User user = currentUser.getUser();
         Task task = findTaskById(id);
 
-        if (task.getExecutor().getEmail().equals(user.getEmail())) {
+        if (task.getExecutor() != null && task.getExecutor().getEmail().equals(user.getEmail())) {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            checkUpdated(taskRepository.updateTaskStatus(id, task.getDateTime(), expectedVersion(task, version), status, updatedAt));
+            executorDashboardService.decrementCounter(task);
             task.setStatus(status);
-            Task result = taskRepository.save(task);
+            incrementVersion(task, updatedAt);
+            executorDashboardService.incrementCounter(task);
+            taskResponseCache.evict(id);
             log.info(UPDATE_STATUS_TASK_MESSAGE_LOGGER_SERVICE, id);
-            return generatingTaskResponse(result, user);
+            return generatingTaskResponse(task, user);
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
     }
 
     /**
-     * Реализация метода для изменения приоритета задачи на платформе
+     * Реализация метода для изменения приоритета задачи на платформе.
+     * Приоритет изменяется одним запросом при условии, что версия задачи не изменилась после чтения,
+     * поэтому счетчики задач исполнителя изменяются относительно актуального состояния задачи
      *
      * @param id       уникальный идентификатор задачи
      * @param priority приоритет задачи
+     * @param version  версия задачи из предыдущего ответа или null, чтобы сравнивать с только что прочитанной версией
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @Override
-    public TaskResponseDto updatePriorityTask(@Positive Long id, Priority priority) {
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
+    @Transactional
+    public TaskResponseDto updatePriorityTask(@Positive Long id, Priority priority, Long version) {
+        User user = currentUser.getUser();
         Task task = findTaskById(id);
 
-        if (task.getAuthor().getEmail().equals(userSecurity.getUsername())) {
+        if (task.getAuthor().getEmail().equals(currentUser.getEmail())) {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            checkUpdated(taskRepository.updateTaskPriority(id, task.getDateTime(), expectedVersion(task, version), priority, updatedAt));
+            executorDashboardService.decrementCounter(task);
             task.setPriority(priority);
-            Task result = taskRepository.save(task);
+            incrementVersion(task, updatedAt);
+            executorDashboardService.incrementCounter(task);
+            taskResponseCache.evict(id);
             log.info(UPDATE_PRIORITY_TASK_MESSAGE_LOGGER_SERVICE, id);
-            return generatingTaskResponse(result, user);
+            return generatingTaskResponse(task, user);
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
     }
 
     /**
-     * Реализация метода для назначения исполнителя задачи на платформе
+     * Реализация метода для назначения исполнителя задачи на платформе.
+     * Исполнитель назначается одним запросом при условии, что версия задачи не изменилась после чтения,
+     * поэтому счетчики задач исполнителей изменяются относительно актуального состояния задачи
      *
-     * @param idTask уникальный идентификатор задачи
-     * @param email  электронная почта исполнителя
+     * @param idTask  уникальный идентификатор задачи
+     * @param email   электронная почта исполнителя
+     * @param version версия задачи из предыдущего ответа или null, чтобы сравнивать с только что прочитанной версией
      * @return Возвращает измененную задачу с полной информацией о ней
      */
     @Override
-    public TaskResponseDto assignPerformerTask(@Positive Long idTask, String email) {
-        User user = userService.findUserByEmail(userSecurity.getUser().getEmail());
+    @Transactional
+    public TaskResponseDto assignPerformerTask(@Positive Long idTask, String email, Long version) {
+        User user = currentUser.getUser();
         User executor = userService.findUserByEmail(email);
         Task task = findTaskById(idTask);
 
-        if (task.getAuthor().getEmail().equals(userSecurity.getUsername())) {
+        if (task.getAuthor().getEmail().equals(currentUser.getEmail())) {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            checkUpdated(taskRepository.updateTaskExecutor(idTask, task.getDateTime(), expectedVersion(task, version), executor, updatedAt));
+            executorDashboardService.decrementCounter(task);
             task.setExecutor(executor);
-            Task result = taskRepository.save(task);
+            incrementVersion(task, updatedAt);
+            executorDashboardService.incrementCounter(task);
+            taskResponseCache.evict(idTask);
             log.info(ASSIGN_PERFORMER_TASK_MESSAGE_LOGGER_SERVICE, idTask, email);
-            return generatingTaskResponse(result, user);
+            return generatingTaskResponse(task, user);
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
+    }
+
+    /**
+     * Реализация метода для массового изменения статуса задач на платформе.
+     * Все задачи изменяются одним запросом, который сам проверяет, что текущий пользователь - исполнитель задачи
+     *
+     * @param ids    уникальные идентификаторы задач
+     * @param status новый статус задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    @Override
+    @Transactional
+    public TaskBulkUpdateResponseDto updateStatusTasks(List<Long> ids, Status status) {
+        List<Long> updated = taskRepository.updateTasksStatus(ids, currentUser.getId(),
+                status.name(), LocalDateTime.now());
+        log.info(UPDATE_STATUS_TASKS_MESSAGE_LOGGER_SERVICE, updated.size(), ids.size());
+        return generatingTaskBulkUpdateResponse(ids, updated);
+    }
+
+    /**
+     * Реализация метода для массового изменения приоритета задач на платформе.
+     * Все задачи изменяются одним запросом, который сам проверяет, что текущий пользователь - автор задачи
+     *
+     * @param ids      уникальные идентификаторы задач
+     * @param priority новый приоритет задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    @Override
+    @Transactional
+    public TaskBulkUpdateResponseDto updatePriorityTasks(List<Long> ids, Priority priority) {
+        List<Long> updated = taskRepository.updateTasksPriority(ids, currentUser.getId(),
+                priority.name(), LocalDateTime.now());
+        log.info(UPDATE_PRIORITY_TASKS_MESSAGE_LOGGER_SERVICE, updated.size(), ids.size());
+        return generatingTaskBulkUpdateResponse(ids, updated);
+    }
+
+    /**
+     * Реализация метода для массового назначения исполнителя задач на платформе.
+     * Все задачи изменяются одним запросом, который сам проверяет, что текущий пользователь - автор задачи
+     *
+     * @param ids   уникальные идентификаторы задач
+     * @param email электронная почта исполнителя
+     * @return Возвращает идентификаторы измененных и неизмененных задач
+     */
+    @Override
+    @Transactional
+    public TaskBulkUpdateResponseDto assignPerformerTasks(List<Long> ids, String email) {
+        User executor = userService.findUserByEmail(email);
+        List<Long> updated = taskRepository.updateTasksExecutor(ids, currentUser.getId(),
+                executor.getId(), LocalDateTime.now());
+        log.info(ASSIGN_PERFORMER_TASKS_MESSAGE_LOGGER_SERVICE, updated.size(), ids.size(), email);
+        return generatingTaskBulkUpdateResponse(ids, updated);
+    }
+
+    /**
+     * Реализация метода для получения версии задачи на платформе.
+     * Если ответ о задаче уже есть в кэше, версия берется из него без обращения к базе данных
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает проекцию версии найденной задачи
+     */
+    @Override
+    public TaskVersionProjection getTaskVersion(@Positive Long id) {
+        TaskFullResponseDto cached = taskResponseCache.getIfPresent(id);
+        if (cached != null) {
+            if (cached.getEmail().equals(currentUser.getEmail())) {
+                return new TaskVersionProjection(cached.getId(), cached.getVersion(), cached.getUpdatedAt(),
+                        currentUser.getId());
+            }
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
+        }
+
+        log.info(FIND_TASK_BY_ID_MESSAGE_LOGGER_SERVICE, id);
+        TaskVersionProjection task = taskRepository.findTaskVersionById(id).orElseThrow(() ->
+                new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
+        if (task.authorId().equals(currentUser.getId())) {
+            log.info(GET_TASK_VERSION_MESSAGE_LOGGER_SERVICE, id);
+            return task;
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
     }
 
     /**
-     * Реализация метода для поиска задач конкретного автора.
+     * Реализация метода для поиска версий задач конкретного автора.
      * Также, метод поддерживает пагинацию и сортировку по времени создания задачи
      *
      * @param id   уникальный идентификатор автора задачи
      * @param page номер страницы
      * @param size количество задач на странице
-     * @return Возвращает список найденных задач конкретного автора
+     * @return Возвращает список версий найденных задач конкретного автора
      */
     @Override
-    public List<TaskFullResponseDto> getAuthorTask(@Positive Long id, @Positive int page, @Positive int size) {
-        User user = userRepository.findById(id).orElseThrow(() ->
-                new UserByIdNotFoundException(USER_BY_ID_NOT_FOUND_EXCEPTION));
+    @Transactional(readOnly = true)
+    public List<TaskVersionProjection> getAuthorTaskVersions(@Positive Long id, @Positive int page, @Positive int size) {
+        checkUserExists(id);
         Sort sort = Sort.by(Sort.Direction.DESC, "id");
         Pageable pageable = PageRequest.of(page - 1, size, sort);
-        List<Task> tasks = taskRepository.findTasksByAuthorId(user.getId(), pageable);
+        List<TaskVersionProjection> tasks = taskRepository.findTaskVersionsByAuthorId(id, pageable);
 
         log.info(GET_AUTHOR_TASK_MESSAGE_LOGGER_SERVICE, id, page, size);
-        return generatingListTaskFullResponse(tasks);
+        return checkTasksFound(tasks);
     }
 
     /**
-     * Реализация метода для поиска задач конкретного исполнителя.
+     * Реализация метода для поиска версий задач конкретного исполнителя.
      * Также, метод поддерживает пагинацию и сортировку по времени изменения задачи
      *
      * @param id   уникальный идентификатор исполнителя задачи
      * @param page номер страницы
      * @param size количество задач на странице
-     * @return Возвращает список найденных задач конкретного исполнителя
+     * @return Возвращает список версий найденных задач конкретного исполнителя
      */
     @Override
-    public List<TaskFullResponseDto> getExecutorTask(@Positive Long id, @Positive int page, @Positive int size) {
-        User user = userRepository.findById(id).orElseThrow(() ->
-                new UserByIdNotFoundException(USER_BY_ID_NOT_FOUND_EXCEPTION));
+    @Transactional(readOnly = true)
+    public List<TaskVersionProjection> getExecutorTaskVersions(@Positive Long id, @Positive int page, @Positive int size) {
+        checkUserExists(id);
         Sort sort = Sort.by(Sort.Direction.DESC, "id");
         Pageable pageable = PageRequest.of(page - 1, size, sort);
-        List<Task> tasks = taskRepository.findTasksByExecutorId(user.getId(), pageable);
+        List<TaskVersionProjection> tasks = taskRepository.findTaskVersionsByExecutorId(id, pageable);
 
         log.info(GET_EXECUTOR_TASK_MESSAGE_LOGGER_SERVICE, id, page, size);
-        return generatingListTaskFullResponse(tasks);
+        return checkTasksFound(tasks);
     }
 
     /**
-     * Приватный метод для генерации ответа пользователю с информацией о задаче
+     * Реализация метода для получения полной информации о задачах по списку их версий.
+     * Задачи, удаленные после получения версий, пропускаются
+     *
+     * @param versions список версий задач, полученный при поиске
+     * @return Возвращает список задач с полной информацией в порядке списка версий
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskFullResponseDto> getTasks(List<TaskVersionProjection> versions) {
+        List<TaskFullProjection> tasks = findingTaskFullProjections(versions.stream().map(TaskVersionProjection::id).toList());
+        return taskFullResponseAssembler.toTaskFullResponses(tasks, commentRepository);
+    }
+
+    /**
+     * Реализация метода для поиска версий задач конкретного автора с пагинацией по курсору.
+     * Страница выбирается условием по идентификатору задачи, поэтому ее стоимость не зависит от глубины
+     *
+     * @param id    уникальный идентификатор автора задачи
+     * @param after курсор, полученный в предыдущем ответе, или null для первой страницы
+     * @param size  количество задач на странице
+     * @return Возвращает список версий найденных задач конкретного автора
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskVersionProjection> getAuthorTaskVersionsByCursor(@Positive Long id, String after, @Positive int size) {
+        checkUserExists(id);
+        List<TaskVersionProjection> tasks = taskRepository.findTaskVersionsByAuthorIdAfter(
+                id, cursorEncoder.decodeOrMax(after), Limit.of(size + 1));
+
+        log.info(GET_AUTHOR_TASK_BY_CURSOR_MESSAGE_LOGGER_SERVICE, id, after, size);
+        return tasks;
+    }
+
+    /**
+     * Реализация метода для поиска версий задач конкретного исполнителя с пагинацией по курсору.
+     * Страница выбирается условием по идентификатору задачи, поэтому ее стоимость не зависит от глубины
+     *
+     * @param id    уникальный идентификатор исполнителя задачи
+     * @param after курсор, полученный в предыдущем ответе, или null для первой страницы
+     * @param size  количество задач на странице
+     * @return Возвращает список версий найденных задач конкретного исполнителя
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskVersionProjection> getExecutorTaskVersionsByCursor(@Positive Long id, String after, @Positive int size) {
+        checkUserExists(id);
+        List<TaskVersionProjection> tasks = taskRepository.findTaskVersionsByExecutorIdAfter(
+                id, cursorEncoder.decodeOrMax(after), Limit.of(size + 1));
+
+        log.info(GET_EXECUTOR_TASK_BY_CURSOR_MESSAGE_LOGGER_SERVICE, id, after, size);
+        return tasks;
+    }
+
+    /**
+     * Реализация метода для получения страницы задач с курсором следующей страницы по списку их версий.
+     * Список версий содержит на одну задачу больше размера страницы, если следующая страница есть
+     *
+     * @param versions список версий задач, полученный при поиске по курсору
+     * @param size     количество задач на странице
+     * @return Возвращает страницу задач с полной информацией и курсором следующей страницы
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto getTaskPage(List<TaskVersionProjection> versions, @Positive int size) {
+        boolean hasNext = versions.size() > size;
+        List<TaskVersionProjection> page = hasNext ? versions.subList(0, size) : versions;
+
+        TaskPageResponseDto response = new TaskPageResponseDto();
+        response.setTasks(getTasks(page));
+        response.setNextCursor(hasNext ? cursorEncoder.encode(page.get(page.size() - 1).id()) : null);
+        log.info(GENERATING_TASK_PAGE_RESPONSE_MESSAGE_LOGGER_SERVICE);
+        return response;
+    }
+
+    /**
+     * Реализация метода для фильтрации задач по статусу, приоритету, периоду создания, автору и исполнителю.
+     * Также, метод поддерживает пагинацию и выбор порядка сортировки. Если приоритет задан в фильтре,
+     * сортировка по приоритету ничего не меняет, поэтому задачи сортируются по дате, которую покрывает индекс
+     *
+     * @param filter условия фильтрации задач
+     * @param sort   порядок сортировки задач
+     * @param page   номер страницы
+     * @param size   количество задач на странице
+     * @return Возвращает список найденных задач, пустой, если под условия не подошла ни одна задача
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskFullResponseDto> filterTask(@Valid TaskFilterRequestDto filter, TaskSort sort, @Positive int page, @Positive int size) {
+        boolean prioritySort = sort == TaskSort.HIGHEST_PRIORITY || sort == TaskSort.LOWEST_PRIORITY;
+        TaskSort order = prioritySort && filter.getPriority() != null ? TaskSort.NEWEST : sort;
+        List<TaskFullProjection> tasks = taskRepository.findTaskFullProjections(
+                TaskSpecification.filter(filter), order, PageRequest.of(page - 1, size));
+
+        log.info(FILTER_TASK_MESSAGE_LOGGER_SERVICE, filter, sort, page, size);
+        return taskFullResponseAssembler.toTaskFullResponses(tasks, commentRepository);
+    }
+
+    /**
+     * Реализация метода для полнотекстового поиска задач по заголовку и описанию.
+     * Сначала по GIN-индексу находятся идентификаторы задач страницы, затем одним запросом загружаются их проекции
+     *
+     * @param query поисковый запрос пользователя
+     * @param after курсор, полученный в предыдущем ответе, или null для первой страницы
+     * @param size  количество задач на странице
+     * @return Возвращает страницу найденных задач с курсором следующей страницы
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto searchTask(@NotBlank String query, String after, @Positive int size) {
+        RankedCursor cursor = cursorEncoder.decodeRankedOrFirst(after);
+        List<TaskSearchProjection> found = taskRepository.searchTasks(query, cursor.rank(), cursor.id(), size + 1);
+        boolean hasNext = found.size() > size;
+        List<TaskSearchProjection> page = hasNext ? found.subList(0, size) : found;
+
+        List<TaskFullProjection> tasks = findingTaskFullProjections(page.stream().map(TaskSearchProjection::getId).toList());
+
+        TaskPageResponseDto response = new TaskPageResponseDto();
+        response.setTasks(taskFullResponseAssembler.toTaskFullResponses(tasks, commentRepository));
+        if (hasNext) {
+            TaskSearchProjection last = page.get(page.size() - 1);
+            response.setNextCursor(cursorEncoder.encodeRanked(last.getRank(), last.getId()));
+        }
+        log.info(SEARCH_TASK_MESSAGE_LOGGER_SERVICE, query, after, size);
+        return response;
+    }
+
+    /**
+     * Реализация метода для выгрузки всех задач конкретного автора в формате NDJSON (одна задача в строке)
+     *
+     * @param id уникальный идентификатор автора задачи
+     * @return Возвращает тело ответа, которое записывает задачи в выходной поток по мере чтения из базы данных
+     */
+    @Override
+    public StreamingResponseBody exportAuthorTask(@Positive Long id) {
+        checkUserExists(id);
+        log.info(EXPORT_AUTHOR_TASK_MESSAGE_LOGGER_SERVICE, id);
+        return outputStream -> writingTasks(() -> taskRepository.streamTasksByAuthorId(id), outputStream);
+    }
+
+    /**
+     * Реализация метода для выгрузки всех задач конкретного исполнителя в формате NDJSON (одна задача в строке)
+     *
+     * @param id уникальный идентификатор исполнителя задачи
+     * @return Возвращает тело ответа, которое записывает задачи в выходной поток по мере чтения из базы данных
+     */
+    @Override
+    public StreamingResponseBody exportExecutorTask(@Positive Long id) {
+        checkUserExists(id);
+        log.info(EXPORT_EXECUTOR_TASK_MESSAGE_LOGGER_SERVICE, id);
+        return outputStream -> writingTasks(() -> taskRepository.streamTasksByExecutorId(id), outputStream);
+    }
+
+    /**
+     * Приватный метод для записи потока задач в выходной поток, по одной задаче в строке.
+     * Чтение выполняется в отдельной транзакции только для чтения, которая нужна драйверу базы данных,
+     * чтобы забирать строки порциями. Каждая записанная задача сразу отсоединяется от контекста постоянства,
+     * поэтому расход памяти не зависит от количества задач
+     *
+     * @param tasks        поставщик потока задач из репозитория
+     * @param outputStream выходной поток ответа
+     */
+    private void writingTasks(Supplier<Stream<Task>> tasks, OutputStream outputStream) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<Task> stream = tasks.get()) {
+                stream.forEach(task -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(generatingExportTaskResponse(task)));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    entityManager.detach(task);
+                });
+            }
+        });
+        log.info(WRITING_TASKS_MESSAGE_LOGGER_SERVICE);
+    }
+
+    /**
+     * Приватный метод для генерации строки выгрузки с информацией о задаче и ее авторе
      *
      * @param task сущность задачи
-     * @param user сущность пользователя
-     * @return Возвращает полную информацию о задаче
+     * @return Возвращает информацию о задаче для выгрузки
      */
-    private TaskResponseDto generatingTaskResponse(Task task, User user) {
+    private TaskResponseDto generatingExportTaskResponse(Task task) {
+        User author = task.getAuthor();
         TaskResponseDto response = taskMapper.toTaskResponse(task);
-        response.setFirstName(user.getFirstName());
-        response.setLastName(user.getLastName());
-        response.setEmail(user.getEmail());
-        response.setRole(user.getRole().name());
-        log.info(GENERATING_TASK_RESPONSE_MESSAGE_LOGGER_SERVICE);
+        response.setFirstName(author.getFirstName());
+        response.setLastName(author.getLastName());
+        response.setEmail(author.getEmail());
+        response.setRole(author.getRole().name());
         return response;
     }
 
+    /**
+     * Приватный метод для загрузки полной информации о задаче из базы данных при промахе кэша.
+     * Чтение выполняется в транзакции только для чтения, поэтому попадание в кэш не занимает соединение с базой данных
+     *
+     * @param id уникальный идентификатор задачи
+     * @return Возвращает полную информацию о задаче
+     */
+    private TaskFullResponseDto loadingTaskFullResponse(Long id) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> {
+            log.info(FIND_TASK_BY_ID_MESSAGE_LOGGER_SERVICE, id);
+            TaskFullProjection task = taskRepository.findTaskFullProjectionById(id).orElseThrow(() ->
+                    new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
+            return taskFullResponseAssembler.toTaskFullResponses(List.of(task), commentRepository).get(0);
+        });
+    }
+
+    /**
+     * Приватный метод для генерации ответа пользователю с результатом массового изменения задач
+     *
+     * @param ids     уникальные идентификаторы задач из запроса
+     * @param updated уникальные идентификаторы измененных задач
+     * @return Возвращает идентификаторы измененных и неизмененных задач в порядке запроса
+     */
+    private TaskBulkUpdateResponseDto generatingTaskBulkUpdateResponse(List<Long> ids, List<Long> updated) {
+        Map<Boolean, List<Long>> partition = partitioningTaskIds(ids, updated);
+        return new TaskBulkUpdateResponseDto(partition.get(true), partition.get(false));
+    }
+
+    /**
+     * Приватный метод для разделения идентификаторов задач из массового запроса на затронутые и незатронутые.
+     * Затронутые задачи удаляются из кэша ответов после фиксации транзакции
+     *
+     * @param ids      уникальные идентификаторы задач из запроса
+     * @param affected уникальные идентификаторы задач, которые были изменены или удалены
+     * @return Возвращает идентификаторы без повторов в порядке запроса: по ключу true - затронутые задачи, по ключу false - остальные
+     */
+    private Map<Boolean, List<Long>> partitioningTaskIds(List<Long> ids, List<Long> affected) {
+        Set<Long> affectedIds = new HashSet<>(affected);
+        affectedIds.forEach(taskResponseCache::evict);
+        return ids.stream()
+                .distinct()
+                .collect(Collectors.partitioningBy(affectedIds::contains));
+    }
+
+    /**
+     * Приватный метод для валидации одной задачи из массового запроса
+     *
+     * @param request  запрос от пользователя
+     * @param dateTime дата и время запроса
+     * @return Возвращает список ошибок валидации, пустой, если задача корректна
+     */
+    private List<Violation> validatingTaskRequest(TaskRequestDto request, LocalDateTime dateTime) {
+        if (request == null) {
+            return List.of(new Violation("", EMPTY_TASK_REQUEST_MESSAGE, dateTime));
+        }
+        return validator.validate(request).stream()
+                .map(violation -> new Violation(violation.getPropertyPath().toString(), violation.getMessage(), dateTime))
+                .toList();
+    }
+
     /**
      * Приватный метод для генерации ответа пользователю с информацией о задаче
      *
@@ -267,35 +770,55 @@ public class TaskServiceImpl implements TaskService {
      * @param user сущность пользователя
      * @return Возвращает полную информацию о задаче
      */
-    private TaskFullResponseDto generatingTaskFullResponse(Task task, User user, List<Comment> comments) {
-        TaskFullResponseDto response = taskMapper.toTaskFullResponse(task);
+    private TaskResponseDto generatingTaskResponse(Task task, User user) {
+        TaskResponseDto response = taskMapper.toTaskResponse(task);
         response.setFirstName(user.getFirstName());
         response.setLastName(user.getLastName());
         response.setEmail(user.getEmail());
         response.setRole(user.getRole().name());
-        response.setComments(comments);
         log.info(GENERATING_TASK_RESPONSE_MESSAGE_LOGGER_SERVICE);
         return response;
     }
 
     /**
-     * Приватный метод для генерации списка ответов пользователю с информацией о задачах
+     * Приватный метод для загрузки проекций задач по списку идентификаторов одним запросом.
+     * Задачи возвращаются в порядке списка идентификаторов, а не найденные задачи пропускаются
+     *
+     * @param ids уникальные идентификаторы задач
+     * @return Возвращает список проекций найденных задач
+     */
+    private List<TaskFullProjection> findingTaskFullProjections(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, TaskFullProjection> byId = taskRepository.findTaskFullProjectionsByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(TaskFullProjection::id, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Приватный метод для проверки, что найдена хотя бы одна задача
      *
-     * @param tasks список задач
-     * @return Возвращает полную информацию о задачах
+     * @param tasks список версий найденных задач
+     * @return Возвращает тот же список версий задач
      */
-    private List<TaskFullResponseDto> generatingListTaskFullResponse(List<Task> tasks) {
+    private List<TaskVersionProjection> checkTasksFound(List<TaskVersionProjection> tasks) {
         if (tasks.isEmpty()) {
             throw new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION_2);
         }
+        return tasks;
+    }
 
-        List<TaskFullResponseDto> responses = new ArrayList<>();
-        for (Task task : tasks) {
-            TaskFullResponseDto response = generatingTaskFullResponse(task, task.getAuthor(), task.getComments());
-            responses.add(response);
+    /**
+     * Приватный метод для проверки существования пользователя по идентификатору
+     *
+     * @param id уникальный идентификатор пользователя
+     */
+    private void checkUserExists(Long id) {
+        if (!userRepository.existsById(id)) {
+            throw new UserByIdNotFoundException(USER_BY_ID_NOT_FOUND_EXCEPTION);
         }
-        log.info(GENERATING_LIST_TASK_FULL_RESPONSE_MESSAGE_LOGGER_SERVICE);
-        return responses;
     }
 
     /**
@@ -309,4 +832,63 @@ public class TaskServiceImpl implements TaskService {
         return taskRepository.findById(id).orElseThrow(() ->
                 new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
     }
+
+    /**
+     * Приватный метод для определения, почему частичное изменение задачи не выполнилось
+     *
+     * @param id            уникальный идентификатор задачи
+     * @param user          текущий пользователь
+     * @param version       версия задачи из предыдущего ответа или null
+     * @param executorEmail электронная почта нового исполнителя или пустая строка
+     * @return Возвращает исключение, соответствующее причине
+     */
+    private RuntimeException patchTaskFailure(Long id, User user, Long version, String executorEmail) {
+        TaskVersionProjection task = taskRepository.findTaskVersionById(id).orElseThrow(() ->
+                new TaskNotFoundException(TASK_NOT_FOUND_EXCEPTION));
+        if (!task.authorId().equals(user.getId())) {
+            return new ResponseStatusException(HttpStatus.FORBIDDEN, RESPONSE_STATUS_EXCEPTION);
+        }
+        if (!executorEmail.isEmpty() && (version == null || version.equals(task.version()))) {
+            userService.findUserByEmail(executorEmail);
+        }
+        return new TaskConflictException(TASK_CONFLICT_EXCEPTION);
+    }
+
+    /**
+     * Приватный метод для получения версии задачи, с которой сравнивается версия в условии изменения.
+     * Если пользователь передал версию из предыдущего ответа и она уже устарела, задача не изменяется
+     *
+     * @param task    прочитанная задача
+     * @param version версия задачи из предыдущего ответа или null
+     * @return Возвращает ожидаемую версию задачи
+     */
+    private Long expectedVersion(Task task, Long version) {
+        if (version != null && !version.equals(task.getVersion())) {
+            throw new TaskConflictException(TASK_CONFLICT_EXCEPTION);
+        }
+        return task.getVersion();
+    }
+
+    /**
+     * Приватный метод для проверки, что условное изменение задачи выполнилось
+     *
+     * @param updated количество измененных задач
+     */
+    private void checkUpdated(int updated) {
+        if (updated == 0) {
+            throw new TaskConflictException(TASK_CONFLICT_EXCEPTION);
+        }
+    }
+
+    /**
+     * Приватный метод для отражения в прочитанной задаче версии и времени, записанных условным изменением.
+     * После условного изменения задача отсоединена от контекста постоянства, поэтому ее изменения не сохраняются повторно
+     *
+     * @param task      прочитанная задача
+     * @param updatedAt дата и время изменения
+     */
+    private void incrementVersion(Task task, LocalDateTime updatedAt) {
+        task.setVersion(task.getVersion() + 1);
+        task.setUpdatedAt(updatedAt);
+    }
 }
@@ -0,0 +1,72 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.service.impl;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.repository.TokenRepository;
+import com.github.stanislavbukaevsky.taskmanagementsystem.service.TokenReaperService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.DELETE_EXPIRED_TOKENS_MESSAGE_LOGGER_SERVICE;
+
+/**
+ * Сервис-класс с бизнес-логикой для удаления refresh-токенов с истекшим сроком действия.
+ * Каждая пачка удаляется в отдельной короткой транзакции, а строки, заблокированные другими узлами, пропускаются,
+ * поэтому удаление безопасно запускать на всех узлах приложения одновременно.
+ * Реализует интерфейс {@link TokenReaperService}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenReaperServiceImpl implements TokenReaperService {
+    private final TokenRepository tokenRepository;
+    private final PlatformTransactionManager transactionManager;
+    @Value("${tokens.reaper.batch-size}")
+    private int batchSize;
+    @Value("${tokens.reaper.pause}")
+    private long pause;
+
+    /**
+     * Реализация метода для удаления refresh-токенов с истекшим сроком действия.
+     * Запускается по расписанию и работает, пока очередная пачка не окажется неполной
+     *
+     * @return Возвращает количество удаленных refresh-токенов
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tokens.reaper.delay}")
+    public int deleteExpiredTokens() {
+        long start = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transaction.execute(status -> tokenRepository.deleteExpiredTokens(now, batchSize));
+            total += deleted;
+        } while (deleted == batchSize && pausing());
+        if (total > 0) {
+            log.info(DELETE_EXPIRED_TOKENS_MESSAGE_LOGGER_SERVICE, total, System.currentTimeMillis() - start);
+        }
+        return total;
+    }
+
+    /**
+     * Приватный метод для паузы между пачками
+     *
+     * @return Возвращает true, если можно продолжать удаление, и false, если поток прерван
+     */
+    private boolean pausing() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.specification;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskFilterRequestDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Этот класс содержит условия отбора задач для {@link Specification}.
+ * Каждое условие, получившее null, не ограничивает выборку, поэтому их можно свободно комбинировать
+ */
+public final class TaskSpecification {
+    private TaskSpecification() {
+    }
+
+    /**
+     * Этот метод собирает все условия фильтрации задач от пользователя в одну спецификацию
+     *
+     * @param filter условия фильтрации задач от пользователя
+     * @return Возвращает спецификацию, объединяющую все условия через "и"
+     */
+    public static Specification<Task> filter(TaskFilterRequestDto filter) {
+        return Specification.allOf(
+                hasAuthor(filter.getAuthorId()),
+                hasExecutor(filter.getExecutorId()),
+                hasStatus(filter.getStatus()),
+                hasPriority(filter.getPriority()),
+                createdFrom(filter.getDateFrom()),
+                createdTo(filter.getDateTo()));
+    }
+
+    /**
+     * Этот метод отбирает задачи конкретного автора
+     *
+     * @param authorId уникальный идентификатор автора задачи
+     * @return Возвращает условие отбора задач
+     */
+    public static Specification<Task> hasAuthor(Long authorId) {
+        return (root, query, builder) -> authorId == null ? null :
+                builder.equal(root.get("author").get("id"), authorId);
+    }
+
+    /**
+     * Этот метод отбирает задачи конкретного исполнителя
+     *
+     * @param executorId уникальный идентификатор исполнителя задачи
+     * @return Возвращает условие отбора задач
+     */
+    public static Specification<Task> hasExecutor(Long executorId) {
+        return (root, query, builder) -> executorId == null ? null :
+                builder.equal(root.get("executor").get("id"), executorId);
+    }
+
+    /**
+     * Этот метод отбирает задачи с конкретным статусом
+     *
+     * @param status статус задачи
+     * @return Возвращает условие отбора задач
+     */
+    public static Specification<Task> hasStatus(Status status) {
+        return (root, query, builder) -> status == null ? null :
+                builder.equal(root.get("status"), status);
+    }
+
+    /**
+     * Этот метод отбирает задачи с конкретным приоритетом
+     *
+     * @param priority приоритет задачи
+     * @return Возвращает условие отбора задач
+     */
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, builder) -> priority == null ? null :
+                builder.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Этот метод отбирает задачи, созданные не раньше указанного момента
+     *
+     * @param dateFrom дата и время начала периода
+     * @return Возвращает условие отбора задач
+     */
+    public static Specification<Task> createdFrom(LocalDateTime dateFrom) {
+        return (root, query, builder) -> dateFrom == null ? null :
+                builder.greaterThanOrEqualTo(root.get("dateTime"), dateFrom);
+    }
+
+    /**
+     * Этот метод отбирает задачи, созданные не позже указанного момента
+     *
+     * @param dateTo дата и время окончания периода
+     * @return Возвращает условие отбора задач
+     */
+    public static Specification<Task> createdTo(LocalDateTime dateTo) {
+        return (root, query, builder) -> dateTo == null ? null :
+                builder.lessThanOrEqualTo(root.get("dateTime"), dateTo);
+    }
+}
@@ -1,43 +1,79 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.token;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.stanislavbukaevsky.taskmanagementsystem.security.UserSecurity;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 
 import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.*;
 
 /**
- * Класс для генерации и валидации access и refresh токенов
+ * Класс для генерации и валидации access и refresh токенов.
+ * Парсеры токенов создаются один раз, а токен проверяется и разбирается за один проход.
+ * Недавно проверенные access токены хранятся в ограниченном кэше по хешу токена не дольше срока их действия,
+ * поэтому повторные запросы с тем же токеном не проверяют подпись и не разбирают JSON заново
  */
 @Slf4j
 @Component
 public class TokenDetailsService {
+    public static final String ID_CLAIM = "id";
+    public static final String ROLE_CLAIM = "role";
+    public static final String EMAIL_CLAIM = "email";
+    private static final String VERIFIED_TOKENS_CACHE = "verifiedTokens";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
     private final SecretKey secretAccess;
     private final SecretKey secretRefresh;
     private final String issuer;
+    private final long accessValidityMinutes;
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+    private final Cache<String, Claims> verifiedAccessTokens;
 
     public TokenDetailsService(@Value("${jwt.secret.access}") String secretAccess,
                                @Value("${jwt.secret.refresh}") String secretRefresh,
-                               @Value("${jwt.user.issuer}") String issuer) {
+                               @Value("${jwt.user.issuer}") String issuer,
+                               @Value("${jwt.cache.maximum-size}") long cacheMaximumSize,
+                               @Value("${jwt.principal.claims}") boolean principalFromClaims,
+                               @Value("${jwt.access.validity-minutes}") long validityMinutes,
+                               @Value("${jwt.access.claims-validity-minutes}") long claimsValidityMinutes,
+                               MeterRegistry meterRegistry) {
         this.secretAccess = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretAccess));
         this.secretRefresh = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretRefresh));
         this.issuer = issuer;
+        this.accessValidityMinutes = principalFromClaims ? claimsValidityMinutes : validityMinutes;
+        this.accessParser = Jwts.parser().verifyWith(this.secretAccess).build();
+        this.refreshParser = Jwts.parser().verifyWith(this.secretRefresh).build();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedAccessTokens, VERIFIED_TOKENS_CACHE);
     }
 
     /**
@@ -47,13 +83,12 @@ public class TokenDetailsService {
      * @return Возвращает сгенерированный JWT access токен в строковом виде
      */
     public String generateAccessToken(@NonNull UserSecurity userSecurity) {
-        final String role = "role";
-        final String email = "email";
         final Date issuedAt = getIssuedAt();
         final Date accessExpiration = getAccessExpiration();
         final Map<String, Object> claims = new HashMap<>() {{
-            put(role, userSecurity.getUser().getRole());
-            put(email, userSecurity.getUser().getEmail());
+            put(ID_CLAIM, userSecurity.getId());
+            put(ROLE_CLAIM, userSecurity.getRole());
+            put(EMAIL_CLAIM, userSecurity.getEmail());
         }};
 
         return Jwts.builder()
@@ -86,15 +121,16 @@ public class TokenDetailsService {
     }
 
     /**
-     * Этот метод генерирует дату истечения срока действия access токена
+     * Этот метод генерирует дату истечения срока действия access токена.
+     * Если пользователь строится по данным из токена, срок действия короче: изменения роли и электронной почты
+     * пользователя, а также его удаление, вступают в силу только с новым access токеном
      *
      * @return Возвращает дату истечения срока действия access токена
      */
     public Date getAccessExpiration() {
         final LocalDateTime dateTime = LocalDateTime.now();
-        final long validityTimeAccessToken = 60;
         final Instant accessExpirationInstant = dateTime
-                .plusMinutes(validityTimeAccessToken)
+                .plusMinutes(accessValidityMinutes)
                 .atZone(ZoneId.systemDefault())
                 .toInstant();
         return Date.from(accessExpirationInstant);
@@ -116,42 +152,32 @@ public class TokenDetailsService {
     }
 
     /**
-     * Этот метод отвечает за проверку валидности access токена
+     * Этот метод проверяет access токен и вытягивает из него данные о пользователе за один проход.
+     * Результат проверки берется из кэша недавно проверенных токенов
      *
      * @param accessToken access токен
+     * @return Возвращает данные о пользователе или null, если токен не валиден
      */
-    public boolean validateAccessToken(@NonNull String accessToken) {
-        return validateToken(accessToken, secretAccess);
-    }
-
-    /**
-     * Этот метод отвечает за проверку валидности refresh токена
-     *
-     * @param refreshToken refresh токен
-     * @return Возвращает true или false, в зависимости от того валиден refresh токен или нет
-     */
-    public boolean validateRefreshToken(@NonNull String refreshToken) {
-        return validateToken(refreshToken, secretRefresh);
-    }
-
-    /**
-     * Этот метод вытягивает из access токена данные о пользователе
-     *
-     * @param accessToken access токен
-     * @return Возвращает полученные данные о пользователе по его access токену
-     */
-    public Claims getAccessClaims(@NonNull String accessToken) {
-        return getClaims(accessToken, secretAccess);
+    public Claims verifyAccessToken(@NonNull String accessToken) {
+        final String hash = hashing(accessToken);
+        Claims claims = verifiedAccessTokens.getIfPresent(hash);
+        if (claims == null) {
+            claims = verifyToken(accessToken, accessParser);
+            if (claims != null) {
+                verifiedAccessTokens.put(hash, claims);
+            }
+        }
+        return claims;
     }
 
     /**
-     * Этот метод вытягивает из refresh токена данные о пользователе
+     * Этот метод проверяет refresh токен и вытягивает из него данные о пользователе за один проход
      *
      * @param refreshToken refresh токен
-     * @return Возвращает полученные данные о пользователе по его refresh токену
+     * @return Возвращает данные о пользователе или null, если токен не валиден
      */
-    public Claims getRefreshClaims(@NonNull String refreshToken) {
-        return getClaims(refreshToken, secretRefresh);
+    public Claims verifyRefreshToken(@NonNull String refreshToken) {
+        return verifyToken(refreshToken, refreshParser);
     }
 
     /**
@@ -165,19 +191,15 @@ public class TokenDetailsService {
     }
 
     /**
-     * Приватный метод для генерации валидации токенов
+     * Приватный метод для проверки токена и получения данных о пользователе
      *
      * @param token  токен
-     * @param secret секретный ключ
-     * @return Возвращает true или false, в зависимости от того валиден токен или нет
+     * @param parser парсер токенов с секретным ключом
+     * @return Возвращает данные о пользователе или null, если токен не валиден
      */
-    private boolean validateToken(@NonNull String token, @NonNull Key secret) {
+    private Claims verifyToken(@NonNull String token, @NonNull JwtParser parser) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) secret)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException expEx) {
             log.error(EXPIRED_JWT_EXCEPTION_MESSAGE_SERVICE, expEx);
         } catch (UnsupportedJwtException unsEx) {
@@ -189,21 +211,47 @@ public class TokenDetailsService {
         } catch (Exception e) {
             log.error(EXCEPTION_MESSAGE_SERVICE, e);
         }
-        return false;
+        return null;
     }
 
     /**
-     * Приватный метод для формирования пользовательских данных по токену
+     * Этот метод вычисляет хеш токена фиксированной длины. По этому хешу токен хранится в кэше,
+     * а refresh-токен - в базе данных
      *
-     * @param token  токен
-     * @param secret секретный ключ
-     * @return Возвращает сформированные данные о пользователе по его токену
+     * @param token токен
+     * @return Возвращает хеш SHA-256 токена в виде шестнадцатеричной строки из 64 символов
+     */
+    public String hashing(@NonNull String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return HEX_FORMAT.formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Приватный класс для определения времени жизни проверенного токена в кэше.
+     * Запись удаляется из кэша не позже истечения срока действия токена, а чтение срок не продлевает
      */
-    private Claims getClaims(@NonNull String token, @NonNull Key secret) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String hash, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            return Math.max(0L, Duration.between(Instant.now(), expiration.toInstant()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(hash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String hash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.token;
 
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import com.github.stanislavbukaevsky.taskmanagementsystem.security.UserSecurityService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -8,6 +9,7 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,8 +20,13 @@ import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
 
+import static com.github.stanislavbukaevsky.taskmanagementsystem.token.TokenDetailsService.ID_CLAIM;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.token.TokenDetailsService.ROLE_CLAIM;
+
 /**
  * Этот класс пропускает запрос пользователя через фильтр.
+ * По умолчанию пользователь строится по данным из проверенного access токена без обращения к базе данных,
+ * а при jwt.principal.claims=false загружается по электронной почте из токена. <br>
  * Класс наследуется от абстрактного класса {@link GenericFilterBean}
  */
 @Component
@@ -30,6 +37,8 @@ public class TokenFilterService extends GenericFilterBean {
     private static final String AUTHORIZATION = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final int BEGIN_INDEX = 7;
+    @Value("${jwt.principal.claims}")
+    private boolean principalFromClaims;
 
     /**
      * Этот метод фильтрует доступ к ресурсам по jwt токену
@@ -44,9 +53,10 @@ public class TokenFilterService extends GenericFilterBean {
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         final String token = getTokenFromRequest((HttpServletRequest) servletRequest);
 
-        if (token != null && tokenDetailsService.validateAccessToken(token)) {
-            final Claims claims = tokenDetailsService.getAccessClaims(token);
-            final UserDetails userDetails = userSecurityService.loadUserByUsername(claims.getSubject());
+        final Claims claims = token == null ? null : tokenDetailsService.verifyAccessToken(token);
+
+        if (claims != null) {
+            final UserDetails userDetails = loadingUser(claims);
             UsernamePasswordAuthenticationToken detailsUser = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -58,6 +68,20 @@ public class TokenFilterService extends GenericFilterBean {
         filterChain.doFilter(servletRequest, servletResponse);
     }
 
+    /**
+     * Приватный метод для получения пользователя по данным из access токена
+     *
+     * @param claims данные из проверенного access токена
+     * @return Возвращает пользователя для помещения в security context
+     */
+    private UserDetails loadingUser(Claims claims) {
+        final String role = claims.get(ROLE_CLAIM, String.class);
+        if (principalFromClaims && role != null) {
+            return userSecurityService.loadUserByClaims(claims.get(ID_CLAIM, Long.class), claims.getSubject(), Role.valueOf(role));
+        }
+        return userSecurityService.loadUserByUsername(claims.getSubject());
+    }
+
     /**
      * Приватный метод для передачи токена по запросу пользователя
      *
@@ -0,0 +1,99 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.util;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.InvalidCursorException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.INVALID_CURSOR_EXCEPTION;
+
+/**
+ * Этот класс для формирования и разбора непрозрачных курсоров пагинации.
+ * Курсор хранит идентификатор последней записи на странице, а для результатов поиска еще и ее релевантность
+ */
+@Component
+public class CursorEncoder {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String RANKED_SEPARATOR = ":";
+
+    /**
+     * Этот метод формирует курсор по идентификатору последней записи на странице
+     *
+     * @param id идентификатор последней записи на странице
+     * @return Возвращает курсор в строковом виде
+     */
+    public String encode(Long id) {
+        return ENCODER.encodeToString(id.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Этот метод извлекает идентификатор записи из курсора
+     *
+     * @param cursor курсор, полученный от пользователя
+     * @return Возвращает идентификатор записи, после которой начинается следующая страница
+     * @throws InvalidCursorException исключение, если курсор сформирован неправильно
+     */
+    public Long decode(String cursor) {
+        try {
+            long id = Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.US_ASCII));
+            if (id > 0) {
+                return id;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_EXCEPTION);
+        }
+        throw new InvalidCursorException(INVALID_CURSOR_EXCEPTION);
+    }
+
+    /**
+     * Этот метод извлекает из курсора верхнюю границу идентификаторов для следующей страницы
+     *
+     * @param cursor курсор, полученный от пользователя, или null для первой страницы
+     * @return Возвращает идентификатор записи из курсора или максимальное значение для первой страницы
+     */
+    public Long decodeOrMax(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        return decode(cursor);
+    }
+
+    /**
+     * Этот метод формирует курсор по релевантности и идентификатору последней записи на странице результатов поиска
+     *
+     * @param rank релевантность последней записи на странице
+     * @param id   идентификатор последней записи на странице
+     * @return Возвращает курсор в строковом виде
+     */
+    public String encodeRanked(Float rank, Long id) {
+        return ENCODER.encodeToString((rank + RANKED_SEPARATOR + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Этот метод извлекает из курсора позицию последней записи на странице результатов поиска
+     *
+     * @param cursor курсор, полученный от пользователя, или null для первой страницы
+     * @return Возвращает позицию из курсора или позицию перед первой страницей
+     * @throws InvalidCursorException исключение, если курсор сформирован неправильно
+     */
+    public RankedCursor decodeRankedOrFirst(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return RankedCursor.FIRST;
+        }
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII).split(RANKED_SEPARATOR);
+            if (parts.length == 2) {
+                float rank = Float.parseFloat(parts[0]);
+                long id = Long.parseLong(parts[1]);
+                if (Float.isFinite(rank) && id > 0) {
+                    return new RankedCursor(rank, id);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_EXCEPTION);
+        }
+        throw new InvalidCursorException(INVALID_CURSOR_EXCEPTION);
+    }
+}
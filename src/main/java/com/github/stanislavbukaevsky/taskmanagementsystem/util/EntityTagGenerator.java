@@ -0,0 +1,87 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.util;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Этот класс для формирования заголовков ETag и Last-Modified ответов с задачами.
+ * Ответ о задаче полностью определяется ее версией, поэтому ETag строгий и формируется без сборки самого ответа
+ */
+@Component
+public class EntityTagGenerator {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final long NO_LAST_MODIFIED = -1L;
+
+    /**
+     * Этот метод формирует строгий ETag одной задачи по ее идентификатору и версии
+     *
+     * @param id      уникальный идентификатор задачи
+     * @param version версия задачи
+     * @return Возвращает ETag в кавычках
+     */
+    public String generate(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Этот метод формирует строгий ETag страницы задач. Он меняется, если на странице изменилась
+     * хотя бы одна задача, а также если задачи добавились, удалились или поменялись местами
+     *
+     * @param tasks список проекций версий задач страницы в порядке выдачи
+     * @return Возвращает ETag в кавычках
+     */
+    public String generate(List<TaskVersionProjection> tasks) {
+        MessageDigest digest = createDigest();
+        for (TaskVersionProjection task : tasks) {
+            digest.update((task.id() + ":" + task.version() + ";").getBytes(StandardCharsets.US_ASCII));
+        }
+        return "\"" + ENCODER.encodeToString(digest.digest()) + "\"";
+    }
+
+    /**
+     * Этот метод переводит время изменения задачи в значение заголовка Last-Modified
+     *
+     * @param updatedAt дата и время последнего изменения задачи
+     * @return Возвращает количество миллисекунд с начала эпохи или -1, если время неизвестно
+     */
+    public long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? NO_LAST_MODIFIED : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Этот метод формирует значение заголовка Last-Modified страницы задач по самой поздней из их изменений
+     *
+     * @param tasks список проекций версий задач страницы
+     * @return Возвращает количество миллисекунд с начала эпохи или -1 для пустой страницы
+     */
+    public long lastModified(List<TaskVersionProjection> tasks) {
+        return lastModified(tasks.stream()
+                .map(TaskVersionProjection::updatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null));
+    }
+
+    /**
+     * Приватный метод для создания объекта вычисления хеша
+     *
+     * @return Возвращает объект вычисления хеша SHA-256
+     */
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.stanislavbukaevsky.taskmanagementsystem.util;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -7,15 +8,21 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Base64;
 
-import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.PASSWORD_ENCODER_ENCODE_MESSAGE_LOGGER_SERVICE;
-import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.PASSWORD_ENCODER_MATCHES_MESSAGE_LOGGER_SERVICE;
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.LoggerTextMessageConstant.*;
 
 /**
  * Этот класс для шифрования пароля пользователя.
+ * Зашифрованный пароль хранится в формате $pbkdf2-sha512$количество итераций$длина ключа$соль$хеш,
+ * поэтому у каждого пользователя своя соль, а параметры шифрования можно менять, не ломая сохраненные пароли.
+ * Количество итераций подбирается при запуске приложения так, чтобы шифрование занимало заданное время. <br>
+ * Пароли в старом формате, зашифрованные с общей солью, по-прежнему проверяются и требуют перешифрования.
  * Реализует интерфейс {@link PasswordEncoder}
  */
 @Slf4j
@@ -27,32 +34,65 @@ public class PBKDF2Encoder implements PasswordEncoder {
     private Integer iteration;
     @Value("${security.password.encoder.keyLength}")
     private Integer keyLength;
+    @Value("${security.password.encoder.target-millis}")
+    private long targetMillis;
+    @Value("${security.password.encoder.salt-length}")
+    private int saltLength;
     private static final String SECRET_KEY_INSTANCE = "PBKDF2WithHmacSHA512";
+    private static final String PREFIX = "$pbkdf2-sha512$";
+    private static final String SEPARATOR = "$";
+    private static final int PARTS = 4;
+    private static final int CALIBRATION_ITERATIONS = 10000;
+    private static final int CALIBRATION_ROUNDS = 5;
+    private static final int ITERATION_STEP = 1000;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+    private final SecureRandom random = new SecureRandom();
+    private volatile int iterations;
 
     /**
-     * Этот метод зашифровывает полученный от пользователя пароль
+     * Этот метод подбирает количество итераций шифрования при запуске приложения.
+     * Количество итераций не бывает меньше заданного в настройках
+     */
+    @PostConstruct
+    public void calibrating() {
+        iterations = iteration;
+        if (targetMillis <= 0) {
+            return;
+        }
+        byte[] salt = generatingSalt();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            hashing("calibration", salt, CALIBRATION_ITERATIONS, keyLength);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        long calibrated = targetMillis * 1_000_000L * CALIBRATION_ITERATIONS / Math.max(best, 1L);
+        calibrated = calibrated / ITERATION_STEP * ITERATION_STEP;
+        iterations = (int) Math.min(Integer.MAX_VALUE, Math.max(iteration, calibrated));
+        log.info(PASSWORD_ENCODER_CALIBRATION_MESSAGE_LOGGER_SERVICE, iterations, targetMillis);
+    }
+
+    /**
+     * Этот метод зашифровывает полученный от пользователя пароль со случайной солью
      *
      * @param rawPassword пароль пользователя
-     * @return Возвращает зашифрованный пароль пользователя
+     * @return Возвращает зашифрованный пароль пользователя вместе с параметрами шифрования
      */
     @Override
     public String encode(CharSequence rawPassword) {
-        try {
-            byte[] result = SecretKeyFactory.getInstance(SECRET_KEY_INSTANCE)
-                    .generateSecret(new PBEKeySpec(rawPassword.toString().toCharArray(),
-                            secret.getBytes(),
-                            iteration,
-                            keyLength)).getEncoded();
+        int currentIterations = iterations;
+        byte[] salt = generatingSalt();
+        byte[] hash = hashing(rawPassword, salt, currentIterations, keyLength);
 
-            log.info(PASSWORD_ENCODER_ENCODE_MESSAGE_LOGGER_SERVICE, rawPassword);
-            return Base64.getEncoder().encodeToString(result);
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            throw new RuntimeException(e);
-        }
+        log.info(PASSWORD_ENCODER_ENCODE_MESSAGE_LOGGER_SERVICE);
+        return PREFIX + currentIterations + SEPARATOR + keyLength + SEPARATOR
+                + ENCODER.encodeToString(salt) + SEPARATOR + ENCODER.encodeToString(hash);
     }
 
     /**
-     * Этот метод проверяет полученный пароль от пользователя и сравнивает его с зашифрованным паролем в базе данных
+     * Этот метод проверяет полученный пароль от пользователя и сравнивает его с зашифрованным паролем в базе данных.
+     * Параметры шифрования берутся из самого зашифрованного пароля
      *
      * @param rawPassword     полученный пароль от пользователя
      * @param encodedPassword зашифрованный пароль, сохраненный в базе данных
@@ -60,7 +100,77 @@ public class PBKDF2Encoder implements PasswordEncoder {
      */
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        log.info(PASSWORD_ENCODER_MATCHES_MESSAGE_LOGGER_SERVICE, rawPassword, encodedPassword);
-        return encode(rawPassword).equals(encodedPassword);
+        log.info(PASSWORD_ENCODER_MATCHES_MESSAGE_LOGGER_SERVICE);
+        if (encodedPassword == null) {
+            return false;
+        }
+        if (!encodedPassword.startsWith(PREFIX)) {
+            byte[] hash = hashing(rawPassword, secret.getBytes(), iteration, keyLength);
+            return MessageDigest.isEqual(Base64.getEncoder().encodeToString(hash).getBytes(StandardCharsets.US_ASCII),
+                    encodedPassword.getBytes(StandardCharsets.US_ASCII));
+        }
+        String[] parts = encodedPassword.substring(PREFIX.length()).split("\\" + SEPARATOR);
+        if (parts.length != PARTS) {
+            return false;
+        }
+        try {
+            byte[] expected = DECODER.decode(parts[3]);
+            byte[] hash = hashing(rawPassword, DECODER.decode(parts[2]), Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+            return MessageDigest.isEqual(hash, expected);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Этот метод проверяет, нужно ли перешифровать пароль. Перешифровываются пароли в старом формате,
+     * а также пароли, зашифрованные заметно меньшим количеством итераций, чем подобрано сейчас
+     *
+     * @param encodedPassword зашифрованный пароль, сохраненный в базе данных
+     * @return Возвращает true, если пароль нужно перешифровать
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        String[] parts = encodedPassword.substring(PREFIX.length()).split("\\" + SEPARATOR);
+        try {
+            return parts.length != PARTS
+                    || Integer.parseInt(parts[1]) != keyLength
+                    || Integer.parseInt(parts[0]) < iterations / 4 * 3;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Приватный метод для генерации случайной соли
+     *
+     * @return Возвращает случайную соль
+     */
+    private byte[] generatingSalt() {
+        byte[] salt = new byte[saltLength];
+        random.nextBytes(salt);
+        return salt;
+    }
+
+    /**
+     * Приватный метод для вычисления хеша пароля
+     *
+     * @param rawPassword пароль пользователя
+     * @param salt        соль
+     * @param iterations  количество итераций
+     * @param keyLength   длина ключа в битах
+     * @return Возвращает хеш пароля
+     */
+    private byte[] hashing(CharSequence rawPassword, byte[] salt, int iterations, int keyLength) {
+        try {
+            return SecretKeyFactory.getInstance(SECRET_KEY_INSTANCE)
+                    .generateSecret(new PBEKeySpec(rawPassword.toString().toCharArray(), salt, iterations, keyLength))
+                    .getEncoded();
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new RuntimeException(e);
+        }
     }
 }
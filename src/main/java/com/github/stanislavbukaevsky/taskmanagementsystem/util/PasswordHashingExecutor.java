@@ -0,0 +1,100 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.util;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ExceptionTextMessageConstant.PASSWORD_HASHING_UNAVAILABLE_EXCEPTION;
+
+/**
+ * Этот класс для шифрования и проверки паролей в отдельном пуле потоков.
+ * Шифрование паролей нагружает процессор, поэтому размер пула по умолчанию равен количеству процессоров,
+ * а очередь ограничена: при ее переполнении запрос сразу отклоняется, не занимая потоки обработки запросов. <br>
+ * Время ожидания в очереди и время шифрования, размер очереди и количество отклоненных задач
+ * публикуются через /actuator/metrics/executor.* с тегом name=passwordHashing
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final String THREAD_NAME_PREFIX = "password-hashing-";
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${security.password.hashing.pool-size}") int poolSize,
+                                   @Value("${security.password.hashing.queue-capacity}") int queueCapacity,
+                                   MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, EXECUTOR_NAME);
+        this.rejected = Counter.builder("executor.rejected")
+                .description("The number of tasks rejected because the queue was full")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Этот метод зашифровывает пароль пользователя в пуле шифрования паролей
+     *
+     * @param rawPassword пароль пользователя
+     * @return Возвращает зашифрованный пароль пользователя, который будет получен после шифрования
+     * @throws PasswordHashingUnavailableException исключение, если очередь шифрования паролей переполнена
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submitting(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Этот метод проверяет пароль пользователя в пуле шифрования паролей
+     *
+     * @param rawPassword     полученный пароль от пользователя
+     * @param encodedPassword зашифрованный пароль, сохраненный в базе данных
+     * @return Возвращает true, если пароли совпадают, после окончания проверки
+     * @throws PasswordHashingUnavailableException исключение, если очередь шифрования паролей переполнена
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submitting(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Этот метод останавливает пул шифрования паролей при остановке приложения
+     */
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    /**
+     * Приватный метод для передачи задачи в пул шифрования паролей
+     *
+     * @param task задача шифрования или проверки пароля
+     * @return Возвращает результат задачи, который будет получен после ее выполнения
+     */
+    private <T> CompletableFuture<T> submitting(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingUnavailableException(PASSWORD_HASHING_UNAVAILABLE_EXCEPTION);
+        }
+    }
+}
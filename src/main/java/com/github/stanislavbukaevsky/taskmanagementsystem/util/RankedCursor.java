@@ -0,0 +1,14 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.util;
+
+/**
+ * Запись с позицией последней записи на странице результатов поиска, отсортированных по релевантности
+ *
+ * @param rank релевантность последней записи на странице
+ * @param id   уникальный идентификатор последней записи на странице
+ */
+public record RankedCursor(Float rank, Long id) {
+    /**
+     * Позиция перед первой страницей результатов поиска
+     */
+    public static final RankedCursor FIRST = new RankedCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+}
@@ -2,7 +2,9 @@ package com.github.stanislavbukaevsky.taskmanagementsystem.mapper;
 
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentRequestDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentResponseDto;
+import com.github.stanislavbukaevsky.taskmanagementsystem.dto.CommentShortResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.CommentProjection;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,4 +41,15 @@ public class CommentMapperTest {
         Assertions.assertThat(response.getText()).isEqualTo(TEXT_COMMENT);
         Assertions.assertThat(response.getDateTime()).isEqualTo(DATE_TIME);
     }
+
+    @Test
+    public void toCommentShortResponseTest() {
+        CommentProjection projection = new CommentProjection(ID_COMMENT, TEXT_COMMENT, DATE_TIME, ID_TASK);
+
+        CommentShortResponseDto response = commentMapper.toCommentShortResponse(projection);
+        Assertions.assertThat(response).isNotNull();
+        Assertions.assertThat(response.getId()).isEqualTo(ID_COMMENT);
+        Assertions.assertThat(response.getText()).isEqualTo(TEXT_COMMENT);
+        Assertions.assertThat(response.getDateTime()).isEqualTo(DATE_TIME);
+    }
 }
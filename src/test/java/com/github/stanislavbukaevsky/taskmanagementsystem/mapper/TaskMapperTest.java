@@ -6,7 +6,9 @@ import com.github.stanislavbukaevsky.taskmanagementsystem.dto.TaskResponseDto;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Comment;
 import com.github.stanislavbukaevsky.taskmanagementsystem.entity.Task;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Priority;
+import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Role;
 import com.github.stanislavbukaevsky.taskmanagementsystem.enums.Status;
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskFullProjection;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +46,8 @@ public class TaskMapperTest {
         task.setDateTime(DATE_TIME);
         task.setStatus(Status.IN_WAITING);
         task.setPriority(Priority.HIGH);
+        task.setVersion(VERSION_TASK);
+        task.setUpdatedAt(DATE_TIME_2);
 
         TaskResponseDto response = taskMapper.toTaskResponse(task);
         Assertions.assertThat(response).isNotNull();
@@ -53,6 +57,8 @@ public class TaskMapperTest {
         Assertions.assertThat(response.getDateTime()).isEqualTo(DATE_TIME);
         Assertions.assertThat(response.getStatus()).isEqualTo(Status.IN_WAITING.getDescription());
         Assertions.assertThat(response.getPriority()).isEqualTo(Priority.HIGH.getDescription());
+        Assertions.assertThat(response.getVersion()).isEqualTo(VERSION_TASK);
+        Assertions.assertThat(response.getUpdatedAt()).isEqualTo(DATE_TIME_2);
     }
 
     @Test
@@ -93,4 +99,26 @@ public class TaskMapperTest {
         Assertions.assertThat(comments.get(1).getText()).isEqualTo(TEXT_COMMENT_2);
         Assertions.assertThat(comments.get(1).getDateTime()).isEqualTo(DATE_TIME_2);
     }
+
+    @Test
+    public void toTaskFullResponseFromProjectionTest() {
+        TaskFullProjection projection = new TaskFullProjection(ID_TASK, HEADING_TASK, DESCRIPTION_TASK, DATE_TIME,
+                Status.IN_PROGRESS, Priority.LOW, VERSION_TASK, DATE_TIME_2, FIRST_NAME_USER, LAST_NAME_USER, EMAIL_USER, Role.USER);
+
+        TaskFullResponseDto response = taskMapper.toTaskFullResponse(projection);
+        Assertions.assertThat(response).isNotNull();
+        Assertions.assertThat(response.getId()).isEqualTo(ID_TASK);
+        Assertions.assertThat(response.getHeading()).isEqualTo(HEADING_TASK);
+        Assertions.assertThat(response.getDescription()).isEqualTo(DESCRIPTION_TASK);
+        Assertions.assertThat(response.getDateTime()).isEqualTo(DATE_TIME);
+        Assertions.assertThat(response.getStatus()).isEqualTo(Status.IN_PROGRESS.getDescription());
+        Assertions.assertThat(response.getPriority()).isEqualTo(Priority.LOW.getDescription());
+        Assertions.assertThat(response.getVersion()).isEqualTo(VERSION_TASK);
+        Assertions.assertThat(response.getUpdatedAt()).isEqualTo(DATE_TIME_2);
+        Assertions.assertThat(response.getFirstName()).isEqualTo(FIRST_NAME_USER);
+        Assertions.assertThat(response.getLastName()).isEqualTo(LAST_NAME_USER);
+        Assertions.assertThat(response.getEmail()).isEqualTo(EMAIL_USER);
+        Assertions.assertThat(response.getRole()).isEqualTo(Role.USER.name());
+        Assertions.assertThat(response.getComments()).isNull();
+    }
 }
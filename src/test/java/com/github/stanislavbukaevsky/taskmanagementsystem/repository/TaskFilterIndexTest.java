@@ -0,0 +1,85 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.repository;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Проверяет по плану EXPLAIN, что каждая комбинация условий фильтрации задач обслуживается индексом.
+ * Последовательное сканирование запрещается на время теста, а каждый индекс из плана должен начинаться
+ * с одной из отфильтрованных колонок, иначе это полный проход по индексу, а не поиск по нему.
+ * Таблица задач секционирована по месяцам, поэтому период берется внутри текущего месяца, секция которого всегда существует,
+ * и короче самой секции, чтобы условие по дате оставалось избирательным. Как и фильтр, запрос читает не только ключ,
+ * иначе первичный ключ (id, date_and_time) секции покрывал бы запрос целиком и проходился бы полностью
+ */
+@SpringBootTest
+@Transactional
+public class TaskFilterIndexTest {
+    private static final Pattern INDEX_IN_PLAN = Pattern.compile("Index (?:Only )?Scan(?: Backward)? (?:using|on) (\\w+)");
+    private static final String SELECT_LEADING_COLUMN = "SELECT a.attname FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid " +
+            "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0] " +
+            "WHERE c.relname = ?";
+    private static final Map<String, String> CONDITIONS = Map.of(
+            "author_id", "author_id = 1",
+            "executor_id", "executor_id = 1",
+            "status", "status = 'COMPLETED'",
+            "priority", "priority = 'HIGH'",
+            "date_and_time", "date_and_time >= date_trunc('month', CURRENT_DATE) " +
+                    "AND date_and_time < date_trunc('month', CURRENT_DATE) + INTERVAL '1 day'");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @MethodSource("filterCombinations")
+    public void filterCombinationUsesIndexTest(List<String> columns) {
+        String where = String.join(" AND ", columns.stream().map(CONDITIONS::get).toList());
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT id, heading, description FROM tasks WHERE " + where, String.class));
+
+        Assertions.assertThat(plan).doesNotContain("Seq Scan").contains("Index Cond");
+        Matcher matcher = INDEX_IN_PLAN.matcher(plan);
+        while (matcher.find()) {
+            String leadingColumn = jdbcTemplate.queryForObject(SELECT_LEADING_COLUMN, String.class, matcher.group(1));
+            Assertions.assertThat(columns).as(plan).contains(leadingColumn);
+        }
+    }
+
+    private static Stream<Arguments> filterCombinations() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (String owner : new String[]{null, "author_id", "executor_id"}) {
+            for (int mask = 0; mask < 8; mask++) {
+                List<String> columns = new ArrayList<>();
+                if (owner != null) {
+                    columns.add(owner);
+                }
+                if ((mask & 1) != 0) {
+                    columns.add("status");
+                }
+                if ((mask & 2) != 0) {
+                    columns.add("priority");
+                }
+                if ((mask & 4) != 0) {
+                    columns.add("date_and_time");
+                }
+                if (!columns.isEmpty()) {
+                    combinations.add(Arguments.of(columns));
+                }
+            }
+        }
+        return combinations.stream();
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.util;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.exception.InvalidCursorException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ParametersForEntityTest.ID_TASK;
+
+public class CursorEncoderTest {
+    private final CursorEncoder cursorEncoder = new CursorEncoder();
+
+    @Test
+    public void encodeAndDecodeTest() {
+        String cursor = cursorEncoder.encode(ID_TASK);
+        Assertions.assertThat(cursor).isNotBlank();
+        Assertions.assertThat(cursorEncoder.decode(cursor)).isEqualTo(ID_TASK);
+    }
+
+    @Test
+    public void decodeInvalidCursorTest() {
+        Assertions.assertThatThrownBy(() -> cursorEncoder.decode("not a cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        Assertions.assertThatThrownBy(() -> cursorEncoder.decode(cursorEncoder.encode(-1L)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    public void decodeOrMaxTest() {
+        Assertions.assertThat(cursorEncoder.decodeOrMax(null)).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThat(cursorEncoder.decodeOrMax(" ")).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThat(cursorEncoder.decodeOrMax(cursorEncoder.encode(ID_TASK))).isEqualTo(ID_TASK);
+    }
+
+    @Test
+    public void encodeAndDecodeRankedTest() {
+        RankedCursor cursor = cursorEncoder.decodeRankedOrFirst(cursorEncoder.encodeRanked(0.6079271F, ID_TASK));
+        Assertions.assertThat(cursor).isEqualTo(new RankedCursor(0.6079271F, ID_TASK));
+        Assertions.assertThat(cursorEncoder.decodeRankedOrFirst(null)).isEqualTo(RankedCursor.FIRST);
+        Assertions.assertThatThrownBy(() -> cursorEncoder.decodeRankedOrFirst(cursorEncoder.encode(ID_TASK)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
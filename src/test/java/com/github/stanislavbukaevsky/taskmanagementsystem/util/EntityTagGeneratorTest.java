@@ -0,0 +1,47 @@
+package com.github.stanislavbukaevsky.taskmanagementsystem.util;
+
+import com.github.stanislavbukaevsky.taskmanagementsystem.projection.TaskVersionProjection;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.taskmanagementsystem.constant.ParametersForEntityTest.*;
+
+public class EntityTagGeneratorTest {
+    private final EntityTagGenerator entityTagGenerator = new EntityTagGenerator();
+
+    @Test
+    public void generateTaskTest() {
+        Assertions.assertThat(entityTagGenerator.generate(ID_TASK, VERSION_TASK)).isEqualTo("\"4-2\"");
+        Assertions.assertThat(entityTagGenerator.generate(ID_TASK, VERSION_TASK + 1))
+                .isNotEqualTo(entityTagGenerator.generate(ID_TASK, VERSION_TASK));
+    }
+
+    @Test
+    public void generateTaskListTest() {
+        TaskVersionProjection first = new TaskVersionProjection(ID_TASK, VERSION_TASK, DATE_TIME, ID_USER);
+        TaskVersionProjection second = new TaskVersionProjection(ID_COMMENT_2, VERSION_TASK, DATE_TIME, ID_USER);
+        TaskVersionProjection changed = new TaskVersionProjection(ID_TASK, VERSION_TASK + 1, DATE_TIME, ID_USER);
+
+        String eTag = entityTagGenerator.generate(List.of(first, second));
+        Assertions.assertThat(eTag).startsWith("\"").endsWith("\"");
+        Assertions.assertThat(entityTagGenerator.generate(List.of(first, second))).isEqualTo(eTag);
+        Assertions.assertThat(entityTagGenerator.generate(List.of(changed, second))).isNotEqualTo(eTag);
+        Assertions.assertThat(entityTagGenerator.generate(List.of(second, first))).isNotEqualTo(eTag);
+        Assertions.assertThat(entityTagGenerator.generate(List.of(first))).isNotEqualTo(eTag);
+    }
+
+    @Test
+    public void lastModifiedTest() {
+        LocalDateTime later = DATE_TIME.plusMinutes(5);
+        TaskVersionProjection first = new TaskVersionProjection(ID_TASK, VERSION_TASK, DATE_TIME, ID_USER);
+        TaskVersionProjection second = new TaskVersionProjection(ID_COMMENT_2, VERSION_TASK, later, ID_USER);
+
+        Assertions.assertThat(entityTagGenerator.lastModified(List.of(first, second)))
+                .isEqualTo(entityTagGenerator.lastModified(later));
+        Assertions.assertThat(entityTagGenerator.lastModified(List.of())).isEqualTo(-1L);
+        Assertions.assertThat(entityTagGenerator.lastModified((LocalDateTime) null)).isEqualTo(-1L);
+    }
+}